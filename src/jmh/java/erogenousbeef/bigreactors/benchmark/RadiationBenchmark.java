@@ -0,0 +1,71 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import erogenousbeef.bigreactors.common.data.RadiationData;
+import erogenousbeef.bigreactors.common.multiblock.helpers.FuelContainer;
+import erogenousbeef.bigreactors.common.multiblock.helpers.RadiationHelper;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorInteriorLattice;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorModel;
+
+/**
+ * Radiation from a single fuel rod, as the reactor does each tick by default,
+ * and from every fuel rod at once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadiationBenchmark {
+
+	@Param({"3x3x3", "5x5x5", "9x9x9", "17x17x17", "32x48x32"})
+	public String size;
+
+	@Param({ReactorLayouts.CHECKERBOARD})
+	public String layout;
+
+	private ReactorInteriorLattice lattice;
+	private RadiationHelper radiationHelper;
+	private int fuelAmount;
+	private int wasteAmount;
+	private float fuelReactivity;
+	private int fuelRod;
+
+	@Setup
+	public void setup() {
+		ReactorModel model = ReactorLayouts.createModel(size, layout);
+		lattice = model.getInteriorLattice();
+		radiationHelper = model.getRadiationHelper();
+
+		FuelContainer fuelContainer = model.getFuelContainer();
+		fuelAmount = fuelContainer.getFuelAmount();
+		wasteAmount = fuelContainer.getWasteAmount();
+		fuelReactivity = fuelContainer.getFuelReactivity();
+		fuelRod = 0;
+	}
+
+	@Benchmark
+	public RadiationData radiate() {
+		fuelRod = (fuelRod + 1) % lattice.getFuelRodCount();
+		return radiationHelper.radiate(lattice, fuelAmount, wasteAmount, fuelReactivity, fuelRod, 1000f, 500f, lattice.getControlRodCount(), 1);
+	}
+
+	@Benchmark
+	public RadiationData radiateAll() {
+		return radiationHelper.radiateAll(lattice, fuelAmount, wasteAmount, fuelReactivity, 1000f, 500f, lattice.getControlRodCount(), 1);
+	}
+}
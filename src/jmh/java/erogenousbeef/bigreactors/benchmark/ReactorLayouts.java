@@ -0,0 +1,124 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import erogenousbeef.bigreactors.api.IHeatEntity;
+import erogenousbeef.bigreactors.api.data.ReactorInteriorData;
+import erogenousbeef.bigreactors.api.registry.ReactorConversions;
+import erogenousbeef.bigreactors.common.data.ReactantStack;
+import erogenousbeef.bigreactors.common.data.StandardReactants;
+import erogenousbeef.bigreactors.common.multiblock.MultiblockReactor;
+import erogenousbeef.bigreactors.common.multiblock.helpers.FuelContainer;
+import erogenousbeef.bigreactors.common.multiblock.helpers.RadiationHelper;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorInteriorLattice;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorModel;
+
+/**
+ * Builds reactors for benchmarks from text descriptions, without a world.
+ *
+ * A size is the reactor's exterior, including its casing, as "XxYxZ".
+ * A layout describes the interior's columns, as rows of characters separated by '/',
+ * repeated across the interior as needed:
+ * F is a column of fuel rods topped by a control rod, G is graphite, W is water and A is air.
+ */
+public class ReactorLayouts {
+
+	public static final String CHECKERBOARD = "FG/GF";
+
+	// As registered for blockGraphite in BigReactors
+	private static final ReactorInteriorData graphiteData = new ReactorInteriorData(0.10f, 0.50f, 2.00f, IHeatEntity.conductivityGold);
+
+	private static boolean reactantsRegistered = false;
+
+	/**
+	 * Register the standard reactants and reactions, as the mod does on startup.
+	 */
+	public static synchronized void registerReactants() {
+		if(reactantsRegistered) { return; }
+		StandardReactants.register();
+		ReactorConversions.register(StandardReactants.yellorium, StandardReactants.cyanite);
+		reactantsRegistered = true;
+	}
+
+	/**
+	 * @return The size of a reactor's interior, excluding its casing
+	 */
+	public static int[] getInteriorSize(String size) {
+		String[] parts = size.split("x");
+		if(parts.length != 3) {
+			throw new IllegalArgumentException("Reactor size must be XxYxZ, not " + size);
+		}
+
+		int[] interior = new int[3];
+		for(int i = 0; i < 3; i++) {
+			interior[i] = Integer.parseInt(parts[i].trim()) - 2;
+			if(interior[i] < 1) {
+				throw new IllegalArgumentException("Reactor size must be at least 3x3x3, not " + size);
+			}
+		}
+		return interior;
+	}
+
+	/**
+	 * Fill in a lattice by hand. The interior starts at 1, 1, 1.
+	 */
+	public static void buildLattice(ReactorInteriorLattice lattice, String size, String layout) {
+		int[] interior = getInteriorSize(size);
+		String[] rows = layout.split("/");
+
+		lattice.allocate(1, 1, 1, interior[0], interior[1], interior[2]);
+		for(int x = 0; x < interior[0]; x++) {
+			for(int z = 0; z < interior[2]; z++) {
+				String row = rows[z % rows.length];
+				char column = row.charAt(x % row.length());
+
+				if(column == 'F') {
+					lattice.setControlRod(x + 1, z + 1, 0);
+				}
+
+				for(int y = 0; y < interior[1]; y++) {
+					switch(column) {
+					case 'F':
+						lattice.setFuelRod(x + 1, y + 1, z + 1);
+						break;
+					case 'G':
+						lattice.setModerator(x + 1, y + 1, z + 1, graphiteData);
+						break;
+					case 'W':
+						lattice.setModerator(x + 1, y + 1, z + 1, RadiationHelper.waterData);
+						break;
+					case 'A':
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown column type " + column + " in layout " + layout);
+					}
+				}
+			}
+		}
+		lattice.finishBuilding();
+	}
+
+	/**
+	 * @return A passively-cooled reactor, half full of yellorium
+	 */
+	public static ReactorModel createModel(String size, String layout) {
+		registerReactants();
+
+		ReactorModel model = new ReactorModel(10000000L);
+		buildLattice(model.getInteriorLattice(), size, layout);
+
+		int[] interior = getInteriorSize(size);
+		model.setInteriorSize(interior[0], interior[1], interior[2]);
+		model.setFuelToReactorHeatTransferCoefficient(model.calculateFuelToReactorHeatTransferCoefficient());
+		model.getFuelContainer().setCapacity(model.getInteriorLattice().getFuelRodCount() * MultiblockReactor.FuelCapacityPerFuelRod);
+		refuel(model);
+		return model;
+	}
+
+	/**
+	 * Throw out the reactor's waste and fill it half full of yellorium again.
+	 */
+	public static void refuel(ReactorModel model) {
+		FuelContainer fuelContainer = model.getFuelContainer();
+		fuelContainer.emptyWaste();
+		fuelContainer.setFuel(new ReactantStack(StandardReactants.yellorium, fuelContainer.getCapacity() / 2));
+	}
+}
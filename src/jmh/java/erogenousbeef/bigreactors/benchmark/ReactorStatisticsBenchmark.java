@@ -0,0 +1,55 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorModel;
+
+/**
+ * Recalculating a reactor's derived statistics on assembly: indexing the interior lattice,
+ * then working out heat transfer from it and from the reactor's size.
+ * Reading the interior out of the world is left out, as there is no world here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactorStatisticsBenchmark {
+
+	@Param({"3x3x3", "5x5x5", "9x9x9", "17x17x17", "32x48x32"})
+	public String size;
+
+	@Param({ReactorLayouts.CHECKERBOARD})
+	public String layout;
+
+	private ReactorModel model;
+	private int[] interiorSize;
+
+	@Setup
+	public void setup() {
+		model = ReactorLayouts.createModel(size, layout);
+		interiorSize = ReactorLayouts.getInteriorSize(size);
+	}
+
+	@Benchmark
+	public ReactorModel recalculateDerivedStatistics() {
+		ReactorLayouts.buildLattice(model.getInteriorLattice(), size, layout);
+		model.resetCurrentFuelRod();
+		model.setInteriorSize(interiorSize[0], interiorSize[1], interiorSize[2]);
+		model.setFuelToReactorHeatTransferCoefficient(model.calculateFuelToReactorHeatTransferCoefficient());
+		return model;
+	}
+}
@@ -0,0 +1,58 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorModel;
+
+/**
+ * The reactor's physics step, which is what updateServer() spends its time on:
+ * radiation, fertility decay and heat transfer. Refuelling, ports and packets need a world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactorStepBenchmark {
+
+	@Param({"3x3x3", "5x5x5", "9x9x9", "17x17x17", "32x48x32"})
+	public String size;
+
+	@Param({ReactorLayouts.CHECKERBOARD})
+	public String layout;
+
+	@Param({"1", "4"})
+	public int ticksPerStep;
+
+	private ReactorModel model;
+
+	@Setup
+	public void setup() {
+		model = ReactorLayouts.createModel(size, layout);
+	}
+
+	@Setup(Level.Iteration)
+	public void refuel() {
+		ReactorLayouts.refuel(model);
+	}
+
+	@Benchmark
+	public ReactorModel step() {
+		model.step(true, ticksPerStep);
+		return model;
+	}
+}
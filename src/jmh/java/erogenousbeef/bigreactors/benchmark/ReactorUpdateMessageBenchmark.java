@@ -0,0 +1,77 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import erogenousbeef.bigreactors.common.data.ReactantStack;
+import erogenousbeef.bigreactors.common.data.StandardReactants;
+import erogenousbeef.bigreactors.common.multiblock.MultiblockReactor;
+import erogenousbeef.bigreactors.common.multiblock.helpers.FuelContainer;
+
+/**
+ * Encoding and decoding a reactor's state, as carried by ReactorUpdateMessage.
+ * The message itself only adds the reference coordinate, which needs an assembled reactor.
+ * The packet is the same size whatever the reactor's size, so this has no size parameter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactorUpdateMessageBenchmark {
+
+	private MultiblockReactor source;
+	private MultiblockReactor destination;
+	private ByteBuf buffer;
+
+	@Setup
+	public void setup() {
+		ReactorLayouts.registerReactants();
+
+		// The reactor never touches its world unless parts are attached
+		source = new MultiblockReactor(null);
+		destination = new MultiblockReactor(null);
+
+		source.setReactorHeat(800f);
+		source.setFuelHeat(1200f);
+		source.setEnergyStored(5000000.0);
+		source.setEnergyGeneratedLastTick(2500f);
+		source.setFuelConsumedLastTick(0.05f);
+
+		FuelContainer fuelContainer = source.getReactorModel().getFuelContainer();
+		fuelContainer.setCapacity(100 * MultiblockReactor.FuelCapacityPerFuelRod);
+		fuelContainer.setFuel(new ReactantStack(StandardReactants.yellorium, 60 * MultiblockReactor.FuelCapacityPerFuelRod));
+		fuelContainer.setWaste(new ReactantStack(StandardReactants.cyanite, 10 * MultiblockReactor.FuelCapacityPerFuelRod));
+
+		buffer = Unpooled.buffer(256);
+		source.serialize(buffer);
+	}
+
+	@Benchmark
+	public ByteBuf encode() {
+		buffer.clear();
+		source.serialize(buffer);
+		return buffer;
+	}
+
+	@Benchmark
+	public MultiblockReactor decode() {
+		buffer.readerIndex(0);
+		destination.deserialize(buffer);
+		return destination;
+	}
+}
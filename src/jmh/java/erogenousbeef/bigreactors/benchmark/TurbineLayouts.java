@@ -0,0 +1,148 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import erogenousbeef.bigreactors.api.registry.TurbineCoil;
+import erogenousbeef.bigreactors.common.multiblock.block.BlockTurbineRotorPart;
+import erogenousbeef.core.common.CoordTriplet;
+
+/**
+ * Builds turbines for benchmarks, without a world.
+ *
+ * A size is the turbine's exterior, including its casing, as "XxYxZ". The rotor bearing is in the
+ * middle of the bottom of the casing and the rotor runs straight up from it. The lower half of the
+ * rotor has blades reaching out as far as they fit on all four sides, and the upper half is ringed
+ * by coils, alternating between iron and gold blocks.
+ *
+ * The turbine sits away from the origin so that bigger ones span several chunks and chunk sections.
+ */
+public class TurbineLayouts {
+
+	// The mod's blocks aren't registered here, so the rotor gets an otherwise unused ID
+	public static final int ROTOR_PART_ID = 250;
+	public static final int IRON_BLOCK_ID = 42;
+	public static final int GOLD_BLOCK_ID = 41;
+
+	public static final int ORIGIN_X = 10;
+	public static final int ORIGIN_Y = 60;
+	public static final int ORIGIN_Z = 10;
+
+	private static boolean blocksRegistered = false;
+
+	/**
+	 * Register the vanilla blocks and the coil materials used here, as the game and the mod do on startup.
+	 */
+	public static synchronized void registerBlocks() {
+		if(blocksRegistered) { return; }
+		Bootstrap.func_151354_b();
+		TurbineCoil.registerBlock("blockIron", 1f, 1f, 1f);
+		TurbineCoil.registerBlock("blockGold", 2f, 1f, 1.75f);
+		blocksRegistered = true;
+	}
+
+	/**
+	 * @return The size of a turbine's exterior, including its casing
+	 */
+	public static int[] getSize(String size) {
+		String[] parts = size.split("x");
+		if(parts.length != 3) {
+			throw new IllegalArgumentException("Turbine size must be XxYxZ, not " + size);
+		}
+
+		int[] exterior = new int[3];
+		for(int i = 0; i < 3; i++) {
+			exterior[i] = Integer.parseInt(parts[i].trim());
+		}
+		if(exterior[0] < 5 || exterior[1] < 4 || exterior[2] < 5) {
+			throw new IllegalArgumentException("Turbine size must be at least 5x4x5, not " + size);
+		}
+		return exterior;
+	}
+
+	public static CoordTriplet getMinimumCoord(String size) {
+		return new CoordTriplet(ORIGIN_X, ORIGIN_Y, ORIGIN_Z);
+	}
+
+	public static CoordTriplet getMaximumCoord(String size) {
+		int[] exterior = getSize(size);
+		return new CoordTriplet(ORIGIN_X + exterior[0] - 1, ORIGIN_Y + exterior[1] - 1, ORIGIN_Z + exterior[2] - 1);
+	}
+
+	public static CoordTriplet getBearingCoord(String size) {
+		int[] exterior = getSize(size);
+		return new CoordTriplet(ORIGIN_X + exterior[0] / 2, ORIGIN_Y, ORIGIN_Z + exterior[2] / 2);
+	}
+
+	/**
+	 * @return Every block inside the turbine which isn't air, each as { x, y, z, block ID, metadata }
+	 */
+	public static int[][] buildInterior(String size) {
+		int[] exterior = getSize(size);
+		CoordTriplet bearing = getBearingCoord(size);
+		int shaftX = bearing.x, shaftZ = bearing.z;
+
+		int minX = ORIGIN_X + 1, maxX = ORIGIN_X + exterior[0] - 2;
+		int minZ = ORIGIN_Z + 1, maxZ = ORIGIN_Z + exterior[2] - 2;
+		int bladeReach = Math.min(Math.min(shaftX - minX, maxX - shaftX), Math.min(shaftZ - minZ, maxZ - shaftZ));
+
+		int layers = exterior[1] - 2;
+		int bladeLayers = (layers + 1) / 2;
+
+		int[][] blocks = new int[layers * (1 + Math.max(4 * bladeReach, 8))][];
+		int count = 0;
+		for(int layer = 0; layer < layers; layer++) {
+			int y = ORIGIN_Y + 1 + layer;
+			blocks[count++] = new int[] { shaftX, y, shaftZ, ROTOR_PART_ID, BlockTurbineRotorPart.METADATA_SHAFT };
+
+			if(layer < bladeLayers) {
+				for(int reach = 1; reach <= bladeReach; reach++) {
+					blocks[count++] = new int[] { shaftX + reach, y, shaftZ, ROTOR_PART_ID, BlockTurbineRotorPart.METADATA_BLADE };
+					blocks[count++] = new int[] { shaftX - reach, y, shaftZ, ROTOR_PART_ID, BlockTurbineRotorPart.METADATA_BLADE };
+					blocks[count++] = new int[] { shaftX, y, shaftZ + reach, ROTOR_PART_ID, BlockTurbineRotorPart.METADATA_BLADE };
+					blocks[count++] = new int[] { shaftX, y, shaftZ - reach, ROTOR_PART_ID, BlockTurbineRotorPart.METADATA_BLADE };
+				}
+			}
+			else {
+				int coilId = (layer & 1) == 0 ? IRON_BLOCK_ID : GOLD_BLOCK_ID;
+				for(int dx = -1; dx <= 1; dx++) {
+					for(int dz = -1; dz <= 1; dz++) {
+						if(dx == 0 && dz == 0) { continue; }
+						blocks[count++] = new int[] { shaftX + dx, y, shaftZ + dz, coilId, 0 };
+					}
+				}
+			}
+		}
+
+		int[][] result = new int[count][];
+		System.arraycopy(blocks, 0, result, 0, count);
+		return result;
+	}
+
+	/**
+	 * Put a turbine's interior into chunk sections, as a world would hold it.
+	 * @return Each chunk's sections, indexed by (chunkX - minimum chunkX) * chunks along Z + (chunkZ - minimum chunkZ)
+	 */
+	public static ExtendedBlockStorage[][] buildChunks(String size) {
+		CoordTriplet min = getMinimumCoord(size);
+		CoordTriplet max = getMaximumCoord(size);
+		int chunksZ = (max.z >> 4) - (min.z >> 4) + 1;
+		ExtendedBlockStorage[][] chunks = new ExtendedBlockStorage[((max.x >> 4) - (min.x >> 4) + 1) * chunksZ][16];
+
+		for(int[] block : buildInterior(size)) {
+			int x = block[0], y = block[1], z = block[2];
+			ExtendedBlockStorage[] storage = chunks[((x >> 4) - (min.x >> 4)) * chunksZ + ((z >> 4) - (min.z >> 4))];
+			if(storage[y >> 4] == null) {
+				storage[y >> 4] = new ExtendedBlockStorage((y >> 4) << 4, false) {
+					// Blocks are written straight into the arrays, so the section's block count isn't kept
+					@Override
+					public boolean isEmpty() { return false; }
+				};
+			}
+
+			ExtendedBlockStorage section = storage[y >> 4];
+			section.getBlockLSBArray()[(y & 15) << 8 | (z & 15) << 4 | (x & 15)] = (byte)block[3];
+			section.setExtBlockMetadata(x & 15, y & 15, z & 15, block[4]);
+		}
+		return chunks;
+	}
+}
@@ -0,0 +1,84 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import erogenousbeef.bigreactors.common.multiblock.MultiblockTurbine;
+import erogenousbeef.bigreactors.common.multiblock.block.BlockTurbineRotorPart;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockVoxelGrid;
+import erogenousbeef.core.common.CoordTriplet;
+import erogenousbeef.core.multiblock.MultiblockValidationException;
+
+/**
+ * Validating a turbine's rotor: filling the validation grid with its rotor shafts, blades and
+ * coils, then walking the rotor out from the bearing, as MultiblockTurbine.isMachineWhole() does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurbineRotorValidationBenchmark {
+
+	@Param({"5x4x5", "7x10x7", "11x20x11", "16x32x16"})
+	public String size;
+
+	private MultiblockVoxelGrid grid;
+	private int[][] parts;		// x, y, z, grid plane
+	private CoordTriplet minCoord;
+	private CoordTriplet maxCoord;
+	private CoordTriplet bearingCoord;
+
+	@Setup
+	public void setup() throws MultiblockValidationException {
+		int[][] interior = TurbineLayouts.buildInterior(size);
+		parts = new int[interior.length][];
+		for(int i = 0; i < interior.length; i++) {
+			int[] block = interior[i];
+			int plane;
+			if(block[3] != TurbineLayouts.ROTOR_PART_ID) {
+				plane = MultiblockTurbine.GRID_COIL;
+			}
+			else if(BlockTurbineRotorPart.isRotorBlade(block[4])) {
+				plane = MultiblockTurbine.GRID_BLADE;
+			}
+			else {
+				plane = MultiblockTurbine.GRID_SHAFT;
+			}
+			parts[i] = new int[] { block[0], block[1], block[2], plane };
+		}
+
+		minCoord = TurbineLayouts.getMinimumCoord(size);
+		maxCoord = TurbineLayouts.getMaximumCoord(size);
+		bearingCoord = TurbineLayouts.getBearingCoord(size);
+		grid = new MultiblockVoxelGrid(3);
+
+		// Make sure the layout is one the turbine accepts
+		validateRotor();
+	}
+
+	@Benchmark
+	public MultiblockVoxelGrid validateRotor() throws MultiblockValidationException {
+		grid.reset(minCoord, maxCoord);
+		for(int[] part : parts) {
+			grid.set(part[3], part[0], part[1], part[2]);
+		}
+
+		MultiblockTurbine.validateRotor(grid, bearingCoord, ForgeDirection.UP, minCoord, maxCoord);
+		return grid;
+	}
+}
@@ -0,0 +1,91 @@
+package erogenousbeef.bigreactors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.block.material.Material;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import erogenousbeef.bigreactors.common.multiblock.MultiblockTurbine;
+import erogenousbeef.bigreactors.common.multiblock.block.BlockTurbineRotorPart;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ChunkSectionScanner;
+import erogenousbeef.core.common.CoordTriplet;
+
+/**
+ * Recalculating a turbine's derived statistics on assembly: scanning its interior a chunk section
+ * at a time and summing up the rotor and coils. The interior is held in chunk sections in memory,
+ * and walked chunk by chunk as ChunkSectionScanner.scan() does with a world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurbineStatisticsBenchmark {
+
+	@Param({"5x4x5", "7x10x7", "11x20x11", "16x32x16"})
+	public String size;
+
+	private ExtendedBlockStorage[][] chunks;	// See TurbineLayouts.buildChunks()
+	private int minChunkX, minChunkZ, chunksZ;
+	private BlockTurbineRotorPart rotorPart;
+	private CoordTriplet minInterior;
+	private CoordTriplet maxInterior;
+
+	@Setup
+	public void setup() {
+		TurbineLayouts.registerBlocks();
+		chunks = TurbineLayouts.buildChunks(size);
+		rotorPart = new BlockTurbineRotorPart(Material.iron);
+
+		minInterior = TurbineLayouts.getMinimumCoord(size);
+		maxInterior = TurbineLayouts.getMaximumCoord(size);
+		minChunkX = minInterior.x >> 4;
+		minChunkZ = minInterior.z >> 4;
+		chunksZ = (maxInterior.z >> 4) - minChunkZ + 1;
+		minInterior.x++; minInterior.y++; minInterior.z++;
+		maxInterior.x--; maxInterior.y--; maxInterior.z--;
+
+		// Make sure every blade and coil is found
+		int blades = 0, coils = 0;
+		for(int[] block : TurbineLayouts.buildInterior(size)) {
+			if(block[3] != TurbineLayouts.ROTOR_PART_ID) { coils++; }
+			else if(BlockTurbineRotorPart.isRotorBlade(block[4])) { blades++; }
+		}
+
+		MultiblockTurbine.InteriorStatistics stats = recalculateDerivedStatistics();
+		if(stats.getBladeSurfaceArea() != blades || stats.getCoilSize() != coils || stats.getRotorMass() <= 0) {
+			throw new IllegalStateException(String.format("Found %d blades and %d coils in a %s turbine, expected %d and %d",
+					stats.getBladeSurfaceArea(), stats.getCoilSize(), size, blades, coils));
+		}
+	}
+
+	@Benchmark
+	public MultiblockTurbine.InteriorStatistics recalculateDerivedStatistics() {
+		MultiblockTurbine.InteriorStatistics stats = new MultiblockTurbine.InteriorStatistics(rotorPart, TurbineLayouts.ROTOR_PART_ID);
+		for(int chunkX = minInterior.x >> 4; chunkX <= maxInterior.x >> 4; chunkX++) {
+			int x0 = Math.max(minInterior.x, chunkX << 4);
+			int x1 = Math.min(maxInterior.x, (chunkX << 4) + 15);
+
+			for(int chunkZ = minInterior.z >> 4; chunkZ <= maxInterior.z >> 4; chunkZ++) {
+				int z0 = Math.max(minInterior.z, chunkZ << 4);
+				int z1 = Math.min(maxInterior.z, (chunkZ << 4) + 15);
+				ChunkSectionScanner.scanColumn(chunks[(chunkX - minChunkX) * chunksZ + (chunkZ - minChunkZ)],
+						x0, minInterior.y, z0, x1, maxInterior.y, z1, stats);
+			}
+		}
+		return stats;
+	}
+}
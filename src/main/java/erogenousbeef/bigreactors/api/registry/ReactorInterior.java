@@ -3,6 +3,10 @@ package erogenousbeef.bigreactors.api.registry;
 import java.util.HashMap;
 import java.util.Map;
 
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import cofh.lib.util.helpers.ItemHelper;
 import erogenousbeef.bigreactors.api.data.ReactorInteriorData;
 import erogenousbeef.bigreactors.common.BRLog;
 
@@ -10,6 +14,14 @@ public class ReactorInterior {
 	private static Map<String, ReactorInteriorData> _reactorModeratorBlocks = new HashMap<String, ReactorInteriorData>();
 	private static Map<String, ReactorInteriorData> _reactorModeratorFluids = new HashMap<String, ReactorInteriorData>();
 
+	// Resolved lookups, indexed by block ID then metadata, and by fluid ID.
+	// Rows are filled in lazily; unregistered blocks & fluids are remembered as NOT_REGISTERED.
+	// Cached lookups are synchronized, as reactor interiors may be checked on worker threads.
+	private static final int MAX_BLOCK_ID = 4096;
+	private static final ReactorInteriorData NOT_REGISTERED = new ReactorInteriorData(0f, 0f, 1f, 0f);
+	private static ReactorInteriorData[][] _blockCache = new ReactorInteriorData[MAX_BLOCK_ID][];
+	private static ReactorInteriorData[] _fluidCache = new ReactorInteriorData[0];
+
 	/**
 	 * @param absorption	How much radiation this material absorbs and converts to heat. 0.0 = none, 1.0 = all.
 	 * @param heatEfficiency How efficiently radiation is converted to heat. 0 = no heat, 1 = all heat.
@@ -26,6 +38,8 @@ public class ReactorInterior {
 		else {
 			_reactorModeratorBlocks.put(oreDictName, new ReactorInteriorData(absorption, heatEfficiency, moderation, heatConductivity));
 		}
+		
+		invalidateCache();
 	}
 
 	/**
@@ -44,6 +58,8 @@ public class ReactorInterior {
 		else {
 			_reactorModeratorFluids.put(fluidName, new ReactorInteriorData(absorption, heatEfficiency, moderation, heatConductivity));
 		}
+		
+		invalidateCache();
 	}
 	
 	public static ReactorInteriorData getBlockData(String oreDictName) {
@@ -52,5 +68,64 @@ public class ReactorInterior {
 
 	public static ReactorInteriorData getFluidData(String fluidName) {
 		return _reactorModeratorFluids.get(fluidName);
-	}	
+	}
+	
+	/**
+	 * Look up a block by its ore dictionary name, caching the result.
+	 * @return The block's data, or null if the block is not registered.
+	 */
+	public static synchronized ReactorInteriorData getBlockData(Block block, int metadata) {
+		int blockId = Block.getIdFromBlock(block);
+		if(blockId < 0 || blockId >= MAX_BLOCK_ID || metadata < 0 || metadata > 15) {
+			return getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata)));
+		}
+
+		ReactorInteriorData[] row = _blockCache[blockId];
+		if(row == null) {
+			row = new ReactorInteriorData[16];
+			_blockCache[blockId] = row;
+		}
+		
+		ReactorInteriorData data = row[metadata];
+		if(data == null) {
+			data = getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata)));
+			if(data == null) { data = NOT_REGISTERED; }
+			row[metadata] = data;
+		}
+		
+		return data == NOT_REGISTERED ? null : data;
+	}
+	
+	/**
+	 * Look up a fluid by its name, caching the result.
+	 * @return The fluid's data, or null if the fluid is not registered.
+	 */
+	public static synchronized ReactorInteriorData getFluidData(Fluid fluid) {
+		int fluidId = fluid.getID();
+		if(fluidId < 0) { return getFluidData(fluid.getName()); }
+		
+		if(fluidId >= _fluidCache.length) {
+			ReactorInteriorData[] newCache = new ReactorInteriorData[fluidId + 16];
+			System.arraycopy(_fluidCache, 0, newCache, 0, _fluidCache.length);
+			_fluidCache = newCache;
+		}
+		
+		ReactorInteriorData data = _fluidCache[fluidId];
+		if(data == null) {
+			data = getFluidData(fluid.getName());
+			if(data == null) { data = NOT_REGISTERED; }
+			_fluidCache[fluidId] = data;
+		}
+		
+		return data == NOT_REGISTERED ? null : data;
+	}
+	
+	/**
+	 * Forget all resolved block & fluid lookups. Called whenever registrations
+	 * or the ore dictionary change.
+	 */
+	public static synchronized void invalidateCache() {
+		_blockCache = new ReactorInteriorData[MAX_BLOCK_ID][];
+		_fluidCache = new ReactorInteriorData[0];
+	}
 }
@@ -3,12 +3,22 @@ package erogenousbeef.bigreactors.api.registry;
 import java.util.HashMap;
 import java.util.Map;
 
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import cofh.lib.util.helpers.ItemHelper;
 import erogenousbeef.bigreactors.api.data.CoilPartData;
 import erogenousbeef.bigreactors.common.BRLog;
 
 public class TurbineCoil {
 	private static Map<String, CoilPartData> _blocks = new HashMap<String, CoilPartData>();
 
+	// Resolved lookups, indexed by block ID then metadata.
+	// Rows are filled in lazily; unregistered blocks are remembered as NOT_REGISTERED.
+	// Cached lookups are synchronized, as turbine interiors may be checked on worker threads.
+	private static final int MAX_BLOCK_ID = 4096;
+	private static final CoilPartData NOT_REGISTERED = new CoilPartData(0f, 1f, 0f);
+	private static CoilPartData[][] _blockCache = new CoilPartData[MAX_BLOCK_ID][];
+
 	/**
 	 * Register a block as permissible in a turbine's inductor coil.
 	 * @param oreDictName Name of the block, as registered in the ore dictionary
@@ -25,9 +35,45 @@ public class TurbineCoil {
 		else {
 			_blocks.put(oreDictName, new CoilPartData(efficiency, bonus, extractionRate));
 		}
+		
+		invalidateCache();
 	}
 
 	public static CoilPartData getBlockData(String oreDictName) {
 		return _blocks.get(oreDictName);
 	}
+
+	/**
+	 * Look up a block by its ore dictionary name, caching the result.
+	 * @return The block's data, or null if the block is not registered.
+	 */
+	public static synchronized CoilPartData getBlockData(Block block, int metadata) {
+		int blockId = Block.getIdFromBlock(block);
+		if(blockId < 0 || blockId >= MAX_BLOCK_ID || metadata < 0 || metadata > 15) {
+			return getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata)));
+		}
+
+		CoilPartData[] row = _blockCache[blockId];
+		if(row == null) {
+			row = new CoilPartData[16];
+			_blockCache[blockId] = row;
+		}
+
+		CoilPartData data = row[metadata];
+		if(data == null) {
+			data = getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata)));
+			if(data == null) { data = NOT_REGISTERED; }
+			row[metadata] = data;
+		}
+
+		return data == NOT_REGISTERED ? null : data;
+	}
+
+	/**
+	 * Forget all resolved block lookups. Called whenever registrations
+	 * or the ore dictionary change.
+	 */
+	public static synchronized void invalidateCache() {
+		_blockCache = new CoilPartData[MAX_BLOCK_ID][];
+	}
 }
@@ -3,7 +3,10 @@ package erogenousbeef.bigreactors.common;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.oredict.OreDictionary;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import erogenousbeef.bigreactors.api.registry.ReactorInterior;
+import erogenousbeef.bigreactors.api.registry.TurbineCoil;
 import erogenousbeef.bigreactors.utils.StaticUtils;
 
 public class BREventHandler {
@@ -38,4 +41,11 @@ public class BREventHandler {
 		BigReactors.tickHandler.addRegenChunk(loadEvent.world.provider.dimensionId, coordPair);
 	}
 	
+	@SubscribeEvent
+	public void oreRegistered(OreDictionary.OreRegisterEvent oreEvent) {
+		// Cached block lookups depend on the ore dictionary
+		ReactorInterior.invalidateCache();
+		TurbineCoil.invalidateCache();
+	}
+	
 }
@@ -18,8 +18,10 @@ import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLInterModComms;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
 import cpw.mods.fml.common.eventhandler.Event.Result;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import erogenousbeef.bigreactors.common.command.CommandProfile;
 import erogenousbeef.bigreactors.common.data.StandardReactants;
 import erogenousbeef.core.multiblock.MultiblockEventHandler;
 
@@ -79,6 +81,11 @@ public class BRLoader {
 		proxy.postInit();
 	}
 	
+	@EventHandler
+	public void serverStarting(FMLServerStartingEvent evt) {
+		evt.registerServerCommand(new CommandProfile());
+	}
+	
 	@EventHandler
 	public void onIMCEvent(FMLInterModComms.IMCEvent event) {
 		// TODO
@@ -164,6 +164,24 @@ public class BigReactors {
 	public static float turbineMassDragMultiplier = 1.0f;
 	public static float	turbineFluidPerBladeMultiplier = 1.0f;
 	
+	public static long reactorEnergyCapacity = 10000000L;
+	public static long turbineEnergyCapacity = 1000000L;
+	
+	public static boolean reactorRadiateAllFuelRods = false;
+	public static boolean reactorUseRadiationSolver = false;
+	public static float reactorRadiationSolverHeatBucket = 5f;
+	public static boolean asyncReactorPhysics = false;
+	public static int asyncPhysicsThreads = 0;
+	public static boolean asyncMultiblockValidation = false;
+	public static int curveTableSamples = 4096;
+	public static boolean reactorUseRadiationCache = false;
+	public static float reactorRadiationCacheTolerance = 0.01f;
+	public static float reactorRadiationCacheHeatTolerance = 1f;
+	public static boolean reactorAllowDormancy = true;
+	public static int reactorTicksPerSimulationStep = 1;
+	public static int reactorReactantBatchSize = 1;
+	public static int multiblockTickBudgetMicros = 10000;
+	
 	public static boolean isValentinesDay = false; // Easter Egg :)
 	
 	// Game Balance values
@@ -224,8 +242,23 @@ public class BigReactors {
 			turbineAeroDragMultiplier = (float)BRConfig.CONFIGURATION.get("General", "turbineAeroDragMultiplier", 1.0, "A multiplier for balancing rotor sizes. Multiplies the amount of energy lost to aerodynamic drag per tick. (Default: 1)").getDouble(1.0);
 			turbineMassDragMultiplier = (float)BRConfig.CONFIGURATION.get("General", "turbineMassDragMultiplier", 1.0, "A multiplier for balancing rotor sizes. Multiplies the amount of energy lost to friction per tick. (Default: 1)").getDouble(1.0);
 			turbineFluidPerBladeMultiplier = (float)BRConfig.CONFIGURATION.get("General", "turbineFluidPerBladeMultiplier", 1.0, "A multiplier for balancing coil size. Multiplies the amount of fluid each blade block can process (base of 25 will be multiplied, then rounded down to the nearest integer). (Default: 1)").getDouble(1.0);
-
-			
+			reactorEnergyCapacity = (long)BRConfig.CONFIGURATION.get("General", "reactorEnergyCapacity", 10000000.0, "Amount of RF each reactor can store internally. Values larger than about 2.1 billion work, but other mods will only see 2.1 billion. (Default: 10000000)").getDouble(10000000.0);
+			turbineEnergyCapacity = (long)BRConfig.CONFIGURATION.get("General", "turbineEnergyCapacity", 1000000.0, "Amount of RF each turbine can store internally. Values larger than about 2.1 billion work, but other mods will only see 2.1 billion. (Default: 1000000)").getDouble(1000000.0);
+
+			reactorRadiateAllFuelRods = BRConfig.CONFIGURATION.get("Performance", "reactorRadiateAllFuelRods", false, "If set, reactors radiate from every fuel rod each tick, instead of from one fuel rod per tick in turn. Output no longer fluctuates as the reactor cycles through its fuel rods. (Default: false)").getBoolean(false);
+			reactorUseRadiationSolver = BRConfig.CONFIGURATION.get("Performance", "reactorUseRadiationSolver", false, "If set, reactors remember where each fuel rod's radiation ends up and only re-trace rays when the reactor's interior, control rods or fuel heat change. Only used when reactorRadiateAllFuelRods is set. (Default: false)").getBoolean(false);
+			reactorRadiationSolverHeatBucket = (float)BRConfig.CONFIGURATION.get("Performance", "reactorRadiationSolverHeatBucket", 5.0, "When using the radiation solver, rays are re-traced whenever fuel heat moves by this many degrees C. Smaller values are more accurate but slower; 0 re-traces on any change. (Default: 5)").getDouble(5.0);
+			asyncReactorPhysics = BRConfig.CONFIGURATION.get("Performance", "asyncReactorPhysics", false, "If set, reactor radiation is calculated on worker threads while the rest of the world ticks, and applied at the start of the reactor's next tick. Useful on servers with many reactors and spare CPU cores. (Default: false)").getBoolean(false);
+			asyncPhysicsThreads = BRConfig.CONFIGURATION.get("Performance", "asyncPhysicsThreads", 0, "Number of worker threads to use when asyncReactorPhysics is set. 0 uses one less than the number of available processors. (Default: 0)").getInt(0);
+			asyncMultiblockValidation = BRConfig.CONFIGURATION.get("Performance", "asyncMultiblockValidation", false, "If set, the blocks inside reactors and turbines which aren't running are checked on worker threads, against a copy of the world, when they are built or loaded. Big machines then no longer stall the server while they assemble, but take a tick or two longer to do so. (Default: false)").getBoolean(false);
+			curveTableSamples = BRConfig.CONFIGURATION.get("Performance", "curveTableSamples", 4096, "Number of points in the lookup tables used for reactor heat and turbine efficiency curves. More points are more accurate; the default is within 0.000002 of the exact curves, and each halving of the points makes the error about four times larger. Set to 0 to always calculate the curves exactly. (Default: 4096)").getInt(4096);
+			reactorUseRadiationCache = BRConfig.CONFIGURATION.get("Performance", "reactorUseRadiationCache", false, "If set, reactors reuse each fuel column's radiation results from previous ticks until its inputs change by more than the tolerances below. Only used when reactorRadiateAllFuelRods is set and reactorUseRadiationSolver is not. (Default: false)").getBoolean(false);
+			reactorRadiationCacheTolerance = (float)BRConfig.CONFIGURATION.get("Performance", "reactorRadiationCacheTolerance", 0.01, "Relative change in radiation intensity, e.g. from fuel being used up, before a fuel column's cached radiation results are recalculated. 0 recalculates on any change. (Default: 0.01)").getDouble(0.01);
+			reactorRadiationCacheHeatTolerance = (float)BRConfig.CONFIGURATION.get("Performance", "reactorRadiationCacheHeatTolerance", 1.0, "Change in fuel heat, in degrees C, before a fuel column's cached radiation results are recalculated. 0 recalculates on any change. (Default: 1)").getDouble(1.0);
+			reactorAllowDormancy = BRConfig.CONFIGURATION.get("Performance", "reactorAllowDormancy", true, "If set, reactors which are off, cooled down and not doing anything stop ticking until something changes, such as being activated, items arriving in an access port, coolant arriving or a neighboring block changing. (Default: true)").getBoolean(true);
+			reactorTicksPerSimulationStep = BRConfig.CONFIGURATION.get("Performance", "reactorTicksPerSimulationStep", 1, "Reactors simulate their physics once every this many ticks, covering all of those ticks at once. Average output and fuel usage stay the same, but heat moves in coarser steps. Individual reactors may override this. Set to 1 to simulate every tick. (Default: 1)").getInt(1);
+			reactorReactantBatchSize = BRConfig.CONFIGURATION.get("Performance", "reactorReactantBatchSize", 1, "Reactors wait until they have room for this many ingots of fuel, or this many ingots of waste to eject, before moving reactants through their access ports. Larger values mean fewer, bigger transfers. (Default: 1)").getInt(1);
+			multiblockTickBudgetMicros = BRConfig.CONFIGURATION.get("Performance", "multiblockTickBudgetMicros", 10000, "Microseconds all reactors and turbines together may spend updating each tick. Once a tick runs over, further machines put off update packets, then redstone/RedNet and fluid ports, then physics steps, for up to 20 ticks. Nothing is lost, only delayed. Set to 0 for no limit. (Default: 10000, 10 milliseconds)").getInt(10000);
 			
 			MultiblockTurbine.inputFluidPerBlade = (int) Math.floor(MultiblockTurbine.inputFluidPerBlade * turbineFluidPerBladeMultiplier);
 			MultiblockTurbine.inductorBaseDragCoefficient *= turbineCoilDragMultiplier;
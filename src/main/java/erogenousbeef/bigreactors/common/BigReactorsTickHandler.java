@@ -9,6 +9,8 @@ import net.minecraft.world.ChunkCoordIntPair;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
+import erogenousbeef.bigreactors.common.multiblock.helpers.AsyncInteriorValidator;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockTickBudget;
 
 public class BigReactorsTickHandler {
 
@@ -32,6 +34,14 @@ public class BigReactorsTickHandler {
 		}
 	}
 
+    @SubscribeEvent
+    public void onServerTick(TickEvent.ServerTickEvent event) {
+        if(event.phase == TickEvent.Phase.START) {
+            MultiblockTickBudget.startServerTick();
+            AsyncInteriorValidator.onServerTick();
+        }
+    }
+
     @SubscribeEvent
     public void onWorldTick(TickEvent.WorldTickEvent event) {
         if(event.side == Side.SERVER && event.phase == TickEvent.Phase.END) {
@@ -0,0 +1,85 @@
+package erogenousbeef.bigreactors.common.command;
+
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockProfiler;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockTickBudget;
+
+/**
+ * /brprofile on|off|reset|report
+ * Controls tick-phase profiling of every reactor and turbine on the server, and reports the results,
+ * along with the multiblock tick budget's metrics.
+ * Individual multiblocks' results are also shown by the debug tool.
+ */
+public class CommandProfile extends CommandBase {
+
+	@Override
+	public String getCommandName() {
+		return "brprofile";
+	}
+
+	@Override
+	public String getCommandUsage(ICommandSender sender) {
+		return "/brprofile <on|off|reset|report>";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	@Override
+	public void processCommand(ICommandSender sender, String[] args) {
+		if(args.length != 1) {
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+
+		if("on".equals(args[0])) {
+			MultiblockProfiler.setEnabled(true);
+			sender.addChatMessage(new ChatComponentText("Big Reactors profiling enabled"));
+		}
+		else if("off".equals(args[0])) {
+			MultiblockProfiler.setEnabled(false);
+			sender.addChatMessage(new ChatComponentText("Big Reactors profiling disabled"));
+		}
+		else if("reset".equals(args[0])) {
+			MultiblockProfiler.reset();
+			MultiblockTickBudget.resetMetrics();
+			sender.addChatMessage(new ChatComponentText("Big Reactors profiling results cleared"));
+		}
+		else if("report".equals(args[0])) {
+			for(String line : MultiblockTickBudget.getReport().split("\n")) {
+				sender.addChatMessage(new ChatComponentText(line));
+			}
+
+			if(!MultiblockProfiler.isEnabled()) {
+				sender.addChatMessage(new ChatComponentText("Big Reactors profiling is off. Use /brprofile on"));
+				return;
+			}
+
+			List<String> lines = MultiblockProfiler.getAllReports();
+			if(lines.isEmpty()) {
+				sender.addChatMessage(new ChatComponentText("No reactors or turbines have ticked since profiling started"));
+			}
+
+			for(String line : lines) {
+				sender.addChatMessage(new ChatComponentText(line));
+			}
+		}
+		else {
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+	}
+
+	@Override
+	public List addTabCompletionOptions(ICommandSender sender, String[] args) {
+		if(args.length == 1) {
+			return getListOfStringsMatchingLastWord(args, "on", "off", "reset", "report");
+		}
+		return null;
+	}
+}
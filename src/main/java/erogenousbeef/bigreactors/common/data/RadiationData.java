@@ -10,6 +10,10 @@ public class RadiationData {
 	public float fuelAbsorbedRadiation = 0f; // in rad-units
 
 	public RadiationData() {
+		reset();
+	}
+	
+	public void reset() {
 		fuelUsage = 0f;
 		environmentRfChange = 0f;
 		fuelRfChange = 0f;
@@ -3,8 +3,9 @@ package erogenousbeef.bigreactors.common.multiblock;
 import io.netty.buffer.ByteBuf;
 
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RecursiveTask;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
@@ -22,9 +23,7 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidBlock;
 import cofh.api.energy.IEnergyProvider;
-import cofh.lib.util.helpers.ItemHelper;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
-import erogenousbeef.bigreactors.api.IHeatEntity;
 import erogenousbeef.bigreactors.api.registry.Reactants;
 import erogenousbeef.bigreactors.api.registry.ReactorInterior;
 import erogenousbeef.bigreactors.common.BRLog;
@@ -34,9 +33,20 @@ import erogenousbeef.bigreactors.common.data.StandardReactants;
 import erogenousbeef.bigreactors.common.interfaces.IMultipleFluidHandler;
 import erogenousbeef.bigreactors.common.interfaces.IReactorFuelInfo;
 import erogenousbeef.bigreactors.common.multiblock.block.BlockReactorPart;
+import erogenousbeef.bigreactors.common.multiblock.helpers.AssemblyFingerprint;
+import erogenousbeef.bigreactors.common.multiblock.helpers.AsyncInteriorValidator;
+import erogenousbeef.bigreactors.common.multiblock.helpers.BlockSnapshot;
 import erogenousbeef.bigreactors.common.multiblock.helpers.CoolantContainer;
+import erogenousbeef.bigreactors.common.multiblock.helpers.EnergyBuffer;
 import erogenousbeef.bigreactors.common.multiblock.helpers.FuelContainer;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockProfiler;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockTickBudget;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockWorkerPool;
+import erogenousbeef.bigreactors.common.multiblock.helpers.PowerDistributor;
 import erogenousbeef.bigreactors.common.multiblock.helpers.RadiationHelper;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorInteriorLattice;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ReactorModel;
+import erogenousbeef.bigreactors.common.multiblock.helpers.TickScheduler;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.IActivateable;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorAccessPort;
@@ -58,36 +68,65 @@ import erogenousbeef.core.multiblock.rectangular.RectangularMultiblockController
 
 public class MultiblockReactor extends RectangularMultiblockControllerBase implements IEnergyProvider, IReactorFuelInfo, IMultipleFluidHandler, IActivateable {
 	public static final int FuelCapacityPerFuelRod = 4 * Reactants.standardSolidReactantAmount; // 4 ingots per rod
+	public static final int MaxSimulationInterval = 100; // Ticks; see setSimulationInterval()
 	
 	public static final int FLUID_SUPERHEATED = CoolantContainer.HOT;
 	public static final int FLUID_COOLANT = CoolantContainer.COLD;
 	
-	private static final float passiveCoolingPowerEfficiency = 0.5f; // 50% power penalty, so this comes out as about 1/3 a basic water-cooled reactor
-	private static final float passiveCoolingTransferEfficiency = 0.2f; // 20% of available heat transferred per tick when passively cooled
-	private static final float reactorHeatLossConductivity = 0.001f; // circa 1RF per tick per external surface block
+	private static final int latticeCellsRefreshedPerTick = 8; // Background re-check of cached interior blocks
+	private static final int fingerprintRestoreTicks = 1200; // Paused for at most this long, an unchanged reactor keeps its derived values
+
+	// Tick phases, for profiling
+	private static final int PHASE_RADIATION = 0;
+	private static final int PHASE_REACTANTS = 1;
+	private static final int PHASE_HEAT = 2;
+	private static final int PHASE_POWER = 3;
+	private static final int PHASE_TICKABLES = 4;
+	private static final int PHASE_PACKETS = 5;
+	private static final String[] PHASE_NAMES = { "Radiation", "Refuel/Eject", "Heat Transfer", "Power", "Tickables", "Packets" };
+	private MultiblockProfiler profiler; // Null unless profiling
 	
 	// Game stuff - stored
 	protected boolean active;
-	private float reactorHeat;
-	private float fuelHeat;
 	private WasteEjectionSetting wasteEjection;
-	private float energyStored;
+
+	// Physics, and the parts of it we use directly
+	protected ReactorModel model;
+	private EnergyBuffer energyBuffer;
 	protected FuelContainer fuelContainer;
 	protected RadiationHelper radiationHelper;
 	protected CoolantContainer coolantContainer;
+	protected ReactorInteriorLattice interiorLattice;
 
-	// Game stuff - derived at runtime
-	protected float fuelToReactorHeatTransferCoefficient;
-	protected float reactorToCoolantSystemHeatTransferCoefficient;
-	protected float reactorHeatLossCoefficient;
-	
-	protected Iterator<TileEntityReactorFuelRod> currentFuelRod;
-	int reactorVolume;
+	// Radiation running on a worker thread, see BigReactors.asyncReactorPhysics
+	private RadiationTask radiationTask;
+	private boolean radiationInFlight;
+	private boolean radiationAssimilated;	// The next step's radiation was already applied from a worker thread
+
+	// Interior checked on a worker thread, see BigReactors.asyncMultiblockValidation
+	private AsyncInteriorValidator interiorValidator;
+	private boolean interiorValidated;	// While isMachineWhole() runs, if the interior already passed
+
+	// Structure as of the last assembly, so an unchanged reactor can skip validation when its chunks reload
+	private AssemblyFingerprint fingerprint;
+	private boolean assembledFromFingerprint;	// Between isMachineWhole() and the assembly that follows
+	private long pausedAt;						// World time at which the reactor was paused, or -1
+
+	// Reactant I/O only scans access ports when they change, or when enough has built up. See shouldRefuel().
+	private boolean accessPortsChanged;
+	private int refuelRetrySpace;			// Fuel space at which to retry refuelling, even if no port changes
+	private int wasteEjectionRetryAmount;	// Waste amount at which to retry ejecting, even if no port changes
+	private String wasteEjectionType;		// Waste type for which wasteEjectionMinimum was looked up
+	private int wasteEjectionMinimum;
+
+	// An idle reactor stops ticking until something wakes it, see wake()
+	private boolean dormant;
+	private int ticksIdle;
+
+	// Physics is stepped every few ticks, see getSimulationInterval()
+	private int simulationInterval;		// 0 to use the server setting
+	private int ticksSinceSimulation;
 
-	// UI stuff
-	private float energyGeneratedLastTick;
-	private float fuelConsumedLastTick;
-	
 	public enum WasteEjectionSetting {
 		kAutomatic,					// Full auto, always remove waste
 		kManual, 					// Manual, only on button press
@@ -96,7 +135,8 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	
 	// Lists of connected parts
 	private Set<TileEntityReactorPowerTap> attachedPowerTaps;
-	private Set<ITickableMultiblockPart> attachedTickables;
+	private PowerDistributor powerDistributor;
+	private TickScheduler tickScheduler;
 
 	private Set<TileEntityReactorControlRod> attachedControlRods; 	// Highest internal Y-coordinate in the fuel column
 	private Set<TileEntityReactorAccessPort> attachedAccessPorts;
@@ -111,47 +151,52 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	private Set<EntityPlayer> updatePlayers;
 	private int ticksSinceLastUpdate;
 	private static final int ticksBetweenUpdates = 3;
-	private static final int maxEnergyStored = 10000000;
+	private int ticksTickablesDeferred; // Ticks in a row tickables were put off to stay within the tick budget
 	
 	public MultiblockReactor(World world) {
 		super(world);
 
 		// Game stuff
 		active = false;
-		reactorHeat = 0f;
-		fuelHeat = 0f;
-		energyStored = 0f;
 		wasteEjection = WasteEjectionSetting.kAutomatic;
 
-		// Derived stats
-		fuelToReactorHeatTransferCoefficient = 0f;
-		reactorToCoolantSystemHeatTransferCoefficient = 0f;
-		reactorHeatLossCoefficient = 0f;
-		
-		// UI and stats
-		energyGeneratedLastTick = 0f;
-		fuelConsumedLastTick = 0f;
-		
+		// Physics
+		model = new ReactorModel(BigReactors.reactorEnergyCapacity);
+		energyBuffer = model.getEnergyBuffer();
+		fuelContainer = model.getFuelContainer();
+		radiationHelper = model.getRadiationHelper();
+		coolantContainer = model.getCoolantContainer();
+		interiorLattice = model.getInteriorLattice();
 		
 		attachedPowerTaps = new HashSet<TileEntityReactorPowerTap>();
-		attachedTickables = new HashSet<ITickableMultiblockPart>();
+		powerDistributor = new PowerDistributor();
+		tickScheduler = new TickScheduler();
 		attachedControlRods = new HashSet<TileEntityReactorControlRod>();
 		attachedAccessPorts = new HashSet<TileEntityReactorAccessPort>();
 		attachedControllers = new HashSet<TileEntityReactorPart>();
 		attachedFuelRods = new HashSet<TileEntityReactorFuelRod>();
 		attachedCoolantPorts = new HashSet<TileEntityReactorCoolantPort>();
 		attachedGlass = new HashSet<TileEntityReactorGlass>();
-		
-		currentFuelRod = null;
 
 		updatePlayers = new HashSet<EntityPlayer>();
 		
 		ticksSinceLastUpdate = 0;
-		fuelContainer = new FuelContainer();
-		radiationHelper = new RadiationHelper();
-		coolantContainer = new CoolantContainer();
-		
-		reactorVolume = 0;
+		radiationTask = new RadiationTask();
+		interiorValidator = new AsyncInteriorValidator(this, interiorChecker);
+		interiorValidated = false;
+		fingerprint = null;
+		assembledFromFingerprint = false;
+		pausedAt = -1;
+		radiationInFlight = false;
+		accessPortsChanged = true;
+		refuelRetrySpace = 0;
+		wasteEjectionRetryAmount = 0;
+		wasteEjectionType = null;
+		wasteEjectionMinimum = 0;
+		dormant = false;
+		ticksIdle = 0;
+		simulationInterval = 0;
+		ticksSinceSimulation = 0;
 	}
 	
 	public void beginUpdatingPlayer(EntityPlayer playerToUpdate) {
@@ -167,6 +212,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	protected void onBlockAdded(IMultiblockPart part) {
 		if(part instanceof TileEntityReactorAccessPort) {
 			attachedAccessPorts.add((TileEntityReactorAccessPort)part);
+			accessPortsChanged = true;
 		}
 		
 		if(part instanceof TileEntityReactorControlRod) {
@@ -175,7 +221,9 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		}
 
 		if(part instanceof TileEntityReactorPowerTap) {
-			attachedPowerTaps.add((TileEntityReactorPowerTap)part);
+			TileEntityReactorPowerTap powerTap = (TileEntityReactorPowerTap)part;
+			attachedPowerTaps.add(powerTap);
+			powerDistributor.setConnected(powerTap, powerTap.hasEnergyConnection());
 		}
 
 		if(part instanceof TileEntityReactorPart) {
@@ -186,16 +234,13 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		}
 
 		if(part instanceof ITickableMultiblockPart) {
-			attachedTickables.add((ITickableMultiblockPart)part);
+			tickScheduler.add((ITickableMultiblockPart)part);
 		}
 		
 		if(part instanceof TileEntityReactorFuelRod) {
 			TileEntityReactorFuelRod fuelRod = (TileEntityReactorFuelRod)part;
 			attachedFuelRods.add(fuelRod);
 
-			// Reset iterator
-			currentFuelRod = attachedFuelRods.iterator();
-
 			if(worldObj.isRemote) {
 				worldObj.markBlockForUpdate(fuelRod.xCoord, fuelRod.yCoord, fuelRod.zCoord);
 			}
@@ -214,6 +259,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	protected void onBlockRemoved(IMultiblockPart part) {
 		if(part instanceof TileEntityReactorAccessPort) {
 			attachedAccessPorts.remove((TileEntityReactorAccessPort)part);
+			accessPortsChanged = true;
 		}
 
 		if(part instanceof TileEntityReactorControlRod) {
@@ -222,6 +268,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 
 		if(part instanceof TileEntityReactorPowerTap) {
 			attachedPowerTaps.remove((TileEntityReactorPowerTap)part);
+			powerDistributor.setConnected((TileEntityReactorPowerTap)part, false);
 		}
 
 		if(part instanceof TileEntityReactorPart) {
@@ -232,12 +279,11 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		}
 
 		if(part instanceof ITickableMultiblockPart) {
-			attachedTickables.remove((ITickableMultiblockPart)part);
+			tickScheduler.remove((ITickableMultiblockPart)part);
 		}
 		
 		if(part instanceof TileEntityReactorFuelRod) {
 			attachedFuelRods.remove(part);
-			currentFuelRod = attachedFuelRods.iterator();
 		}
 		
 		if(part instanceof TileEntityReactorCoolantPort) {
@@ -259,8 +305,30 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		if(attachedControllers.size() < 1) {
 			throw new MultiblockValidationException("Not enough controllers. Reactors require at least 1.");
 		}
-		
-		super.isMachineWhole();
+
+		// A reactor coming back exactly as it last assembled, typically because a chunk it spans reloaded, is still whole
+		if(fingerprint != null && !worldObj.isRemote && !isAssembled() &&
+				fingerprint.matches(worldObj, getMinimumCoord(), getMaximumCoord(), getFingerprintPartCounts())) {
+			assembledFromFingerprint = true;
+			return;
+		}
+
+		// Check the interior's blocks on a worker thread first, unless the reactor is already running.
+		// Changes to a running reactor must take effect right away.
+		if(BigReactors.asyncMultiblockValidation && !worldObj.isRemote && !isAssembled() &&
+				connectedParts.size() >= getMinimumNumberOfBlocksForAssembledMachine() &&
+				AsyncInteriorValidator.isWithinSizeLimits(getMinimumCoord(), getMaximumCoord(),
+						getMinimumXSize(), getMaximumXSize(), getMinimumYSize(), getMaximumYSize(), getMinimumZSize(), getMaximumZSize())) {
+			interiorValidator.validate(worldObj, getMinimumCoord(), getMaximumCoord(), connectedParts);
+			interiorValidated = true;
+		}
+
+		try {
+			super.isMachineWhole();
+		}
+		finally {
+			interiorValidated = false;
+		}
 	}
 
 	@Override
@@ -269,152 +337,275 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	// Update loop. Only called when the machine is assembled.
 	@Override
 	public boolean updateServer() {
+		if(dormant) { return false; }
+
+		profiler = MultiblockProfiler.forMultiblock(this, PHASE_NAMES);
+		long budgetStart = MultiblockTickBudget.begin();
+
 		if(Float.isNaN(this.getReactorHeat())) {
 			this.setReactorHeat(0.0f);
 		}
 		
 		float oldHeat = this.getReactorHeat();
-		float oldEnergy = this.getEnergyStored();
-		energyGeneratedLastTick = 0f;
-		fuelConsumedLastTick = 0f;
-
-		float newHeat = 0f;
+		double oldEnergy = this.getEnergyStored();
+		int oldFuel = fuelContainer.getFuelAmount();
+		int oldWaste = fuelContainer.getWasteAmount();
+
+		// Only simulate every few ticks, each time covering all of the ticks since the last step
+		// Steps may also be put off to stay within the tick budget, unless their radiation is already being calculated on a worker thread
+		ticksSinceSimulation++;
+		int dt = 0;
+		int ticksOverdue = ticksSinceSimulation - getSimulationInterval();
+		if(ticksOverdue >= 0 && (BigReactors.asyncReactorPhysics || !MultiblockTickBudget.shouldDefer(MultiblockTickBudget.PHYSICS, ticksOverdue))) {
+			dt = ticksSinceSimulation;
+			ticksSinceSimulation = 0;
+			model.beginStep();
+		}
+
+		// Collect radiation started on a worker thread at the end of the last tick
+		long t = profiler != null ? profiler.start() : 0L;
+		completeRadiation();
+		if(profiler != null) { t = profiler.lap(PHASE_RADIATION, t); }
+
+		if(dt > 0) {
+			simulate(dt);
+			if(profiler != null) { t = profiler.start(); }
+		}
+		else {
+			// Between steps, the coolant system takes its share of the last step's heat
+			model.tickCoolant();
+			if(profiler != null) { t = profiler.lap(PHASE_HEAT, t); }
+		}
 		
-		if(getActive()) {
-			// Select a control rod to radiate from. Reset the iterator and select a new Y-level if needed.
-			if(!currentFuelRod.hasNext()) {
-				currentFuelRod = attachedFuelRods.iterator();
+		// Distribute available power
+		int energyAvailable = energyBuffer.getEnergyStoredInt();
+		if(energyAvailable > 0) {
+			int energyUsed = powerDistributor.distribute(energyAvailable);
+			if(energyUsed > 0) {
+				reduceStoredEnergy(energyUsed);
 			}
+		}
+		if(profiler != null) { t = profiler.lap(PHASE_POWER, t); }
 
-			// Radiate from that control rod
-			TileEntityReactorFuelRod source  = currentFuelRod.next();
-			TileEntityReactorControlRod sourceControlRod = (TileEntityReactorControlRod)worldObj.getTileEntity(source.xCoord, getMaximumCoord().y, source.zCoord);
-			if(sourceControlRod != null)
-			{
-				RadiationData radData = radiationHelper.radiate(worldObj, fuelContainer, source, sourceControlRod, getFuelHeat(), getReactorHeat(), attachedControlRods.size());
-
-				// Assimilate results of radiation
-				if(radData != null) {
-					addFuelHeat(radData.getFuelHeatChange(attachedFuelRods.size()));
-					addReactorHeat(radData.getEnvironmentHeatChange(getReactorVolume()));
-					fuelConsumedLastTick += radData.fuelUsage;
+		// Send updates periodically
+		ticksSinceLastUpdate++;
+		if(ticksSinceLastUpdate >= ticksBetweenUpdates && !MultiblockTickBudget.shouldDefer(MultiblockTickBudget.PACKETS, ticksSinceLastUpdate - ticksBetweenUpdates)) {
+			ticksSinceLastUpdate = 0;
+			sendTickUpdate();
+		}
+		if(profiler != null) { t = profiler.lap(PHASE_PACKETS, t); }
+		
+		// TODO: Overload/overheat
+
+		// Update any connected tickables which are due
+		if(MultiblockTickBudget.shouldDefer(MultiblockTickBudget.TICKABLES, ticksTickablesDeferred)) {
+			ticksTickablesDeferred++;
+		}
+		else {
+			ticksTickablesDeferred = 0;
+			tickScheduler.tick();
+		}
+		if(profiler != null) { t = profiler.lap(PHASE_TICKABLES, t); }
+
+		if(attachedGlass.size() > 0 && fuelContainer.shouldUpdate()) {
+			markReferenceCoordForUpdate();
+		}
+		if(profiler != null) { t = profiler.lap(PHASE_PACKETS, t); }
+		
+		// If the next tick is a simulation step, start its radiation, so it runs while the rest of the world ticks
+		int nextDt = ticksSinceSimulation + 1;
+		if(getActive() && BigReactors.asyncReactorPhysics && nextDt >= getSimulationInterval()) {
+			startRadiation(nextDt);
+		}
+		if(profiler != null) {
+			profiler.lap(PHASE_RADIATION, t);
+			profiler.endTick();
+		}
+		
+		// Go to sleep once nothing has happened for long enough that ports and GUIs have caught up
+		if(dt > 0) {
+			if(BigReactors.reactorAllowDormancy && isIdle(oldFuel, oldWaste)) {
+				ticksIdle += dt;
+				boolean deferredWorkPending = ticksSinceLastUpdate >= ticksBetweenUpdates || ticksTickablesDeferred > 0;
+				if(ticksIdle > Math.max(ticksBetweenUpdates, BigReactors.ticksPerRedstoneUpdate) && !deferredWorkPending) {
+					dormant = true;
 				}
 			}
+			else {
+				ticksIdle = 0;
+			}
 		}
+		
+		MultiblockTickBudget.end(budgetStart);
+		return (oldHeat != this.getReactorHeat() || oldEnergy != this.getEnergyStored());
+	}
+	
+	/**
+	 * Advance the reactor's physics by a number of ticks at once.
+	 * Heat transfers are solved implicitly, see ThermalNetwork, so large steps settle
+	 * towards the same temperatures as small ones rather than overshooting.
+	 * @param dt Number of ticks to simulate; 1 behaves exactly as a normal tick
+	 */
+	private void simulate(int dt) {
+		long t = profiler != null ? profiler.start() : 0L;
+
+		// Radiation, unless it was already calculated on a worker thread.
+		// Nothing is in flight on the first step after the reactor is switched on, so that one radiates here.
+		boolean radiate = !radiationAssimilated;
+		radiationAssimilated = false;
+		interiorLattice.syncControlRods();
+		model.simulateRadiation(getActive(), radiate, dt);
 
-		// Allow radiation to decay even when reactor is off.
-		radiationHelper.tick(getActive());
+		// Pick up interior changes that didn't cause a neighbor update on any reactor part
+		interiorLattice.refreshIncremental(worldObj, latticeCellsRefreshedPerTick);
+		model.setFuelToReactorHeatTransferCoefficient(model.calculateFuelToReactorHeatTransferCoefficient());
+		if(profiler != null) { t = profiler.lap(PHASE_RADIATION, t); }
 
 		// If we can, poop out waste and inject new fuel.
-		if(wasteEjection == WasteEjectionSetting.kAutomatic) {
+		// Access ports are only scanned when one has changed, or enough has built up to be worth moving.
+		if(wasteEjection == WasteEjectionSetting.kAutomatic && shouldEjectWaste()) {
 			ejectWaste(false, null);
+			onWasteEjectionAttempted();
 		}
 		
-		refuel();
+		if(shouldRefuel()) {
+			refuel();
+			onRefuelAttempted();
+		}
 
-		// Heat Transfer: Fuel Pool <> Reactor Environment
-		float tempDiff = fuelHeat - reactorHeat;
-		if(tempDiff > 0.01f) {
-			float rfTransferred = tempDiff * fuelToReactorHeatTransferCoefficient;
-			float fuelRf = StaticUtils.Energy.getRFFromVolumeAndTemp(attachedFuelRods.size(), fuelHeat);
-			
-			fuelRf -= rfTransferred;
-			setFuelHeat(StaticUtils.Energy.getTempFromVolumeAndRF(attachedFuelRods.size(), fuelRf));
+		// Any changes to the access ports since here were our own
+		accessPortsChanged = false;
+		if(profiler != null) { t = profiler.lap(PHASE_REACTANTS, t); }
 
-			// Now see how much the reactor's temp has increased
-			float reactorRf = StaticUtils.Energy.getRFFromVolumeAndTemp(getReactorVolume(), getReactorHeat());
-			reactorRf += rfTransferred;
-			setReactorHeat(StaticUtils.Energy.getTempFromVolumeAndRF(getReactorVolume(), reactorRf));
-		}
+		// Heat Transfer: Fuel Pool <> Reactor Environment <> Coolant System & Outside World, all at once
+		model.simulateHeat(dt);
+		if(profiler != null) { profiler.lap(PHASE_HEAT, t); }
+	}
+	
+	/**
+	 * @return Number of ticks between simulation steps, from this reactor's own setting or else the server's
+	 */
+	public int getSimulationInterval() {
+		return Math.max(1, simulationInterval > 0 ? simulationInterval : BigReactors.reactorTicksPerSimulationStep);
+	}
+	
+	/**
+	 * Set from computer ports.
+	 * @param newInterval Number of ticks between simulation steps for this reactor, up to MaxSimulationInterval, or 0 to use the server's setting
+	 */
+	public void setSimulationInterval(int newInterval) {
+		simulationInterval = Math.max(0, Math.min(MaxSimulationInterval, newInterval));
+		wake();
+	}
+	
+	/**
+	 * @return True if the last tick changed nothing, and the next one won't either,
+	 * unless something outside the reactor changes.
+	 */
+	private boolean isIdle(int oldFuel, int oldWaste) {
+		if(getActive() || radiationInFlight) { return false; }
 
-		// If we have a temperature differential between environment and coolant system, move heat between them.
-		tempDiff = getReactorHeat() - getCoolantTemperature();
-		if(tempDiff > 0.01f) {
-			float rfTransferred = tempDiff * reactorToCoolantSystemHeatTransferCoefficient;
-			float reactorRf = StaticUtils.Energy.getRFFromVolumeAndTemp(getReactorVolume(), getReactorHeat());
+		// Fuel or waste moved to or from access ports
+		if(oldFuel != fuelContainer.getFuelAmount() || oldWaste != fuelContainer.getWasteAmount()) { return false; }
 
-			if(isPassivelyCooled()) {
-				rfTransferred *= passiveCoolingTransferEfficiency;
-				generateEnergy(rfTransferred * passiveCoolingPowerEfficiency);
-			}
-			else {
-				rfTransferred -= coolantContainer.onAbsorbHeat(rfTransferred);
-				energyGeneratedLastTick = coolantContainer.getFluidVaporizedLastTick(); // Piggyback so we don't have useless stuff in the update packet
-			}
+		// Fertility is still decaying
+		if(radiationHelper.getFertility() > 0f) { return false; }
 
-			reactorRf -= rfTransferred;
-			setReactorHeat(StaticUtils.Energy.getTempFromVolumeAndRF(getReactorVolume(), reactorRf));
-		}
+		// Heat is still moving
+		if(!model.isHeatSettled()) { return false; }
 
-		// Do passive heat loss - this is always versus external environment
-		tempDiff = getReactorHeat() - getPassiveCoolantTemperature();
-		if(tempDiff > 0.000001f) {
-			float rfLost = Math.max(1f, tempDiff * reactorHeatLossCoefficient); // Lose at least 1RF/t
-			float reactorNewRf = Math.max(0f, StaticUtils.Energy.getRFFromVolumeAndTemp(getReactorVolume(), getReactorHeat()) - rfLost);
-			setReactorHeat(StaticUtils.Energy.getTempFromVolumeAndRF(getReactorVolume(), reactorNewRf));
-		}
-		
-		// Prevent cryogenics
-		if(reactorHeat < 0f) { setReactorHeat(0f); }
-		if(fuelHeat < 0f) { setFuelHeat(0f); }
-		
-		// Distribute available power
-		int energyAvailable = (int)getEnergyStored();
-		int energyRemaining = energyAvailable;
-		if(attachedPowerTaps.size() > 0 && energyRemaining > 0) {
-			// First, try to distribute fairly
-			int splitEnergy = energyRemaining / attachedPowerTaps.size();
-			for(TileEntityReactorPowerTap powerTap : attachedPowerTaps) {
-				if(energyRemaining <= 0) { break; }
-				if(!powerTap.isConnected()) { continue; }
-
-				energyRemaining -= splitEnergy - powerTap.onProvidePower(splitEnergy);
-			}
+		// Coolant ports may still be pumping out vapor
+		if(!isPassivelyCooled() && coolantContainer.getVaporAmount() > 0) { return false; }
 
-			// Next, just hose out whatever we can, if we have any left
-			if(energyRemaining > 0) {
-				for(TileEntityReactorPowerTap powerTap : attachedPowerTaps) {
-					if(energyRemaining <= 0) { break; }
-					if(!powerTap.isConnected()) { continue; }
+		// Power taps may still be draining stored energy
+		if(energyBuffer.getEnergyStoredRF() > 0 && powerDistributor.getConnectedTapCount() > 0) { return false; }
 
-					energyRemaining = powerTap.onProvidePower(energyRemaining);
-				}
-			}
-		}
-		
-		if(energyAvailable != energyRemaining) {
-			reduceStoredEnergy((energyAvailable - energyRemaining));
-		}
+		return true;
+	}
+	
+	/**
+	 * Resume ticking, if this reactor had gone dormant. Call whenever something
+	 * outside the reactor changes which could affect it.
+	 */
+	public void wake() {
+		dormant = false;
+		ticksIdle = 0;
+	}
+	
+	/**
+	 * Update a tickable part on the next tick, even if it's sleeping or not due yet.
+	 */
+	public void wakeTickable(ITickableMultiblockPart part) {
+		tickScheduler.wake(part);
+	}
+	
+	/**
+	 * Called by power taps when they may have gained or lost their energy connection.
+	 */
+	public void onPowerTapConnectionChanged(TileEntityReactorPowerTap powerTap) {
+		if(!attachedPowerTaps.contains(powerTap)) { return; }
 
-		// Send updates periodically
-		ticksSinceLastUpdate++;
-		if(ticksSinceLastUpdate >= ticksBetweenUpdates) {
-			ticksSinceLastUpdate = 0;
-			sendTickUpdate();
+		powerDistributor.setConnected(powerTap, powerTap.hasEnergyConnection());
+		if(powerTap.hasEnergyConnection()) {
+			wake();
 		}
-		
-		// TODO: Overload/overheat
+	}
+	
+	public boolean isDormant() {
+		return dormant;
+	}
+	
+	private void startRadiation(int dt) {
+		interiorLattice.syncControlRods();
+		radiationTask.reinitialize();
+		radiationTask.fuelAmount = fuelContainer.getFuelAmount();
+		radiationTask.wasteAmount = fuelContainer.getWasteAmount();
+		radiationTask.fuelReactivity = fuelContainer.getFuelReactivity();
+		radiationTask.fuelHeat = getFuelHeat();
+		radiationTask.environmentHeat = getReactorHeat();
+		radiationTask.numControlRods = interiorLattice.getControlRodCount();
+		radiationTask.dt = dt;
+
+		radiationInFlight = true;
+		MultiblockWorkerPool.execute(radiationTask);
+	}
+	
+	/**
+	 * Wait for any radiation running on a worker thread and apply its results.
+	 * Results are dropped if the reactor has since been switched off or disassembled.
+	 * Must be called before the interior lattice or radiation helper are touched on the main thread.
+	 */
+	private void completeRadiation() {
+		if(!radiationInFlight) { return; }
+		radiationInFlight = false;
+		RadiationData radData = radiationTask.join();
+		if(!getActive() || !isAssembled()) { return; }
 
-		// Update any connected tickables
-		for(ITickableMultiblockPart tickable : attachedTickables) {
-			tickable.onMultiblockServerTick();
-		}
+		model.assimilateRadiation(radData);
+		radiationAssimilated = true;
+	}
+	
+	/**
+	 * Radiation, run on a worker thread against values captured on the main thread.
+	 * Reused every tick.
+	 */
+	private class RadiationTask extends RecursiveTask<RadiationData> {
+		int fuelAmount;
+		int wasteAmount;
+		float fuelReactivity;
+		float fuelHeat;
+		float environmentHeat;
+		int numControlRods;
+		int dt;
 
-		if(attachedGlass.size() > 0 && fuelContainer.shouldUpdate()) {
-			markReferenceCoordForUpdate();
+		@Override
+		protected RadiationData compute() {
+			return model.radiate(fuelAmount, wasteAmount, fuelReactivity, fuelHeat, environmentHeat, numControlRods, dt);
 		}
-		
-		return (oldHeat != this.getReactorHeat() || oldEnergy != this.getEnergyStored());
 	}
 	
-	public void setEnergyStored(float oldEnergy) {
-		energyStored = oldEnergy;
-		if(energyStored < 0.0 || Float.isNaN(energyStored)) {
-			energyStored = 0.0f;
-		}
-		else if(energyStored > maxEnergyStored) {
-			energyStored = maxEnergyStored;
-		}
+	public void setEnergyStored(double oldEnergy) {
+		energyBuffer.setEnergyStored(oldEnergy);
 	}
 	
 	/**
@@ -422,9 +613,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	 * @param newEnergy Base, unmultiplied energy to generate
 	 */
 	protected void generateEnergy(float newEnergy) {
-		newEnergy = newEnergy * BigReactors.powerProductionMultiplier * BigReactors.reactorPowerProductionMultiplier;
-		this.energyGeneratedLastTick += newEnergy;
-		this.addStoredEnergy(newEnergy);
+		model.generateEnergy(newEnergy);
 	}
 
 	/**
@@ -433,16 +622,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	 * @param newEnergy
 	 */
 	protected void addStoredEnergy(float newEnergy) {
-		if(Float.isNaN(newEnergy)) { return; }
-
-		energyStored += newEnergy;
-		if(energyStored > maxEnergyStored) {
-			energyStored = maxEnergyStored;
-		}
-		if(-0.00001f < energyStored && energyStored < 0.00001f) {
-			// Clamp to zero
-			energyStored = 0f;
-		}
+		energyBuffer.addEnergy(newEnergy);
 	}
 
 	/**
@@ -453,10 +633,20 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	protected void reduceStoredEnergy(float energy) {
 		this.addStoredEnergy(-1f * energy);
 	}
+
+	/**
+	 * Remove whole RF from the internal storage buffer, without any float rounding.
+	 * Will not reduce the buffer below 0.
+	 * @param energy Amount by which the buffer should be reduced.
+	 */
+	protected void reduceStoredEnergy(long energy) {
+		energyBuffer.removeEnergy(energy);
+	}
 	
 	public void setActive(boolean act) {
 		if(act == this.active) { return; }
 		this.active = act;
+		wake();
 		
 		for(IMultiblockPart part : connectedParts) {
 			if(this.active) { part.onMachineActivated(); }
@@ -475,40 +665,25 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	}
 
 	protected void addReactorHeat(float newCasingHeat) {
-		if(Float.isNaN(newCasingHeat)) {
-			return;
-		}
-
-		reactorHeat += newCasingHeat;
-		// Clamp to zero to prevent floating point issues
-		if(-0.00001f < reactorHeat && reactorHeat < 0.00001f) { reactorHeat = 0.0f; }
+		model.addReactorHeat(newCasingHeat);
 	}
 	
 	public float getReactorHeat() {
-		return reactorHeat;
+		return model.getReactorHeat();
 	}
 	
 	public void setReactorHeat(float newHeat) {
-		if(Float.isNaN(newHeat)) {
-			reactorHeat = 0.0f;
-		}
-		else {
-			reactorHeat = newHeat;
-		}
+		model.setReactorHeat(newHeat);
 	}
 
 	protected void addFuelHeat(float additionalHeat) {
-		if(Float.isNaN(additionalHeat)) { return; }
-		
-		fuelHeat += additionalHeat;
-		if(-0.00001f < fuelHeat & fuelHeat < 0.00001f) { fuelHeat = 0f; }
+		model.addFuelHeat(additionalHeat);
 	}
 	
-	public float getFuelHeat() { return fuelHeat; }
+	public float getFuelHeat() { return model.getFuelHeat(); }
 	
 	public void setFuelHeat(float newFuelHeat) {
-		if(Float.isNaN(newFuelHeat)) { fuelHeat = 0f; }
-		else { fuelHeat = newFuelHeat; }
+		model.setFuelHeat(newFuelHeat);
 	}
 	
 	public int getFuelRodCount() {
@@ -519,22 +694,35 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	// Water, air, and metal blocks
 	@Override
 	protected void isBlockGoodForInterior(World world, int x, int y, int z) throws MultiblockValidationException {
+		if(interiorValidated) { return; } // Already checked on a worker thread, see isMachineWhole()
 		if(world.isAirBlock(x, y, z)) { return; } // Air is OK
 
-		Material material = world.getBlock(x, y, z).getMaterial();
+		checkInteriorBlock(world.getBlock(x, y, z), world.getBlockMetadata(x, y, z), x, y, z);
+	}
+
+	private static final AsyncInteriorValidator.IInteriorBlockChecker interiorChecker = new AsyncInteriorValidator.IInteriorBlockChecker() {
+		@Override
+		public void checkInteriorBlock(BlockSnapshot snapshot, int x, int y, int z, List<CoordTriplet> found) throws MultiblockValidationException {
+			if(snapshot.isAirBlock(x, y, z)) { return; }
+			MultiblockReactor.checkInteriorBlock(snapshot.getBlock(x, y, z), snapshot.getBlockMetadata(x, y, z), x, y, z);
+		}
+	};
+
+	/**
+	 * Check a block other than air in the reactor's interior. Only reads the registries, so may run on a worker thread.
+	 */
+	private static void checkInteriorBlock(Block block, int metadata, int x, int y, int z) throws MultiblockValidationException {
+		Material material = block.getMaterial();
 		if(material == net.minecraft.block.material.MaterialLiquid.water) {
 			return;
 		}
 		
-		Block block = world.getBlock(x, y, z);
 		if(block == Blocks.iron_block || block == Blocks.gold_block || block == Blocks.diamond_block || block == Blocks.emerald_block) {
 			return;
 		}
 		
 		// Permit registered moderator blocks
-		int metadata = world.getBlockMetadata(x, y, z);
-
-		if(ReactorInterior.getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata))) != null) {
+		if(ReactorInterior.getBlockData(block, metadata) != null) {
 			return;
 		}
 
@@ -543,7 +731,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 			if(block instanceof IFluidBlock) {
 				Fluid fluid = ((IFluidBlock)block).getFluid();
 				String fluidName = fluid.getName();
-				if(ReactorInterior.getFluidData(fluidName) != null) { return; }
+				if(ReactorInterior.getFluidData(fluid) != null) { return; }
 
 				throw new MultiblockValidationException(String.format("%d, %d, %d - The fluid %s is not valid for the reactor's interior", x, y, z, fluidName));
 			}
@@ -558,18 +746,36 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	
 	@Override
 	public void writeToNBT(NBTTagCompound data) {
+		completeRadiation();
+
 		data.setBoolean("reactorActive", this.active);
-		data.setFloat("heat", this.reactorHeat);
-		data.setFloat("fuelHeat", fuelHeat);
-		data.setFloat("storedEnergy", this.energyStored);
+		data.setFloat("heat", getReactorHeat());
+		data.setFloat("fuelHeat", getFuelHeat());
+		data.setTag("energyBuffer", energyBuffer.writeToNBT(new NBTTagCompound()));
 		data.setInteger("wasteEjection2", this.wasteEjection.ordinal());
 		data.setTag("fuelContainer", fuelContainer.writeToNBT(new NBTTagCompound()));
 		data.setTag("radiation", radiationHelper.writeToNBT(new NBTTagCompound()));
 		data.setTag("coolantContainer", coolantContainer.writeToNBT(new NBTTagCompound()));
+
+		if(model.getCoolantTicksPending() > 0) {
+			data.setFloat("coolantHeatPending", model.getCoolantHeatPending());
+			data.setInteger("coolantTicksPending", model.getCoolantTicksPending());
+		}
+
+		if(simulationInterval > 0) {
+			data.setInteger("simulationInterval", simulationInterval);
+		}
+
+		if(fingerprint != null) {
+			data.setTag("fingerprint", fingerprint.writeToNBT(new NBTTagCompound()));
+		}
 	}
 
 	@Override
 	public void readFromNBT(NBTTagCompound data) {
+		completeRadiation();
+		wake();
+
 		if(data.hasKey("reactorActive")) {
 			setActive(data.getBoolean("reactorActive"));
 		}
@@ -578,7 +784,13 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 			setReactorHeat(Math.max(getReactorHeat(), data.getFloat("heat")));
 		}
 		
-		if(data.hasKey("storedEnergy")) {
+		if(data.hasKey("energyBuffer")) {
+			EnergyBuffer savedEnergy = new EnergyBuffer(energyBuffer.getCapacity());
+			savedEnergy.readFromNBT(data.getCompoundTag("energyBuffer"));
+			setEnergyStored(Math.max(getEnergyStored(), savedEnergy.getEnergyStored()));
+		}
+		else if(data.hasKey("storedEnergy")) {
+			// Saved before energy was stored as fixed point
 			setEnergyStored(Math.max(getEnergyStored(), data.getFloat("storedEnergy")));
 		}
 		
@@ -601,6 +813,19 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		if(data.hasKey("coolantContainer")) {
 			coolantContainer.readFromNBT(data.getCompoundTag("coolantContainer"));
 		}
+
+		if(data.hasKey("coolantTicksPending")) {
+			model.setCoolantHeatPending(data.getFloat("coolantHeatPending"), data.getInteger("coolantTicksPending"));
+		}
+
+		if(data.hasKey("simulationInterval")) {
+			simulationInterval = Math.max(0, Math.min(MaxSimulationInterval, data.getInteger("simulationInterval")));
+		}
+
+		// A fingerprint we took ourselves is more recent than a saved one
+		if(fingerprint == null && data.hasKey("fingerprint")) {
+			fingerprint = AssemblyFingerprint.readFromNBT(data.getCompoundTag("fingerprint"));
+		}
 	}
 
 	@Override
@@ -612,6 +837,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	@Override
 	public void formatDescriptionPacket(NBTTagCompound data) {
 		writeToNBT(data);
+		data.removeTag("fingerprint"); // Server only
 	}
 
 	@Override
@@ -639,14 +865,14 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 
 		// Basic data
 		buf.writeBoolean(active);
-		buf.writeFloat(reactorHeat);
-		buf.writeFloat(fuelHeat);
-		buf.writeFloat(energyStored);
+		buf.writeFloat(getReactorHeat());
+		buf.writeFloat(getFuelHeat());
+		energyBuffer.serialize(buf);
 		buf.writeFloat(radiationHelper.getFertility());
 		
 		// Statistics
-		buf.writeFloat(energyGeneratedLastTick);
-		buf.writeFloat(fuelConsumedLastTick);
+		buf.writeFloat(getEnergyGeneratedLastTick());
+		buf.writeFloat(getFuelConsumedLastTick());
 		
 		// Coolant data
 		buf.writeInt(coolantTypeID);
@@ -666,7 +892,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		setActive(buf.readBoolean());
 		setReactorHeat(buf.readFloat());
 		setFuelHeat(buf.readFloat());
-		setEnergyStored(buf.readFloat());
+		energyBuffer.deserialize(buf);
 		radiationHelper.setFertility(buf.readFloat());
 		
 		// Statistics
@@ -766,12 +992,15 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 
 	@Override
 	protected void onAssimilated(MultiblockControllerBase otherMachine) {
+		completeRadiation();
+
 		this.attachedPowerTaps.clear();
-		this.attachedTickables.clear();
+		powerDistributor.clear();
+		tickScheduler.clear();
 		this.attachedAccessPorts.clear();
 		this.attachedControllers.clear();
 		this.attachedControlRods.clear();
-		currentFuelRod = null;
+		model.resetCurrentFuelRod();
 	}
 	
 	@Override
@@ -782,9 +1011,12 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		}
 		
 		MultiblockReactor otherReactor = (MultiblockReactor)otherMachine;
+		wake();
+		completeRadiation();
+		otherReactor.completeRadiation();
 
-		if(otherReactor.reactorHeat > this.reactorHeat) { setReactorHeat(otherReactor.reactorHeat); }
-		if(otherReactor.fuelHeat > this.fuelHeat) { setFuelHeat(otherReactor.fuelHeat); }
+		if(otherReactor.getReactorHeat() > this.getReactorHeat()) { setReactorHeat(otherReactor.getReactorHeat()); }
+		if(otherReactor.getFuelHeat() > this.getFuelHeat()) { setFuelHeat(otherReactor.getFuelHeat()); }
 
 		if(otherReactor.getEnergyStored() > this.getEnergyStored()) { this.setEnergyStored(otherReactor.getEnergyStored()); }
 
@@ -798,8 +1030,19 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		this.readFromNBT(data);
 	}
 	
-	public float getEnergyStored() {
-		return energyStored;
+	public double getEnergyStored() {
+		return energyBuffer.getEnergyStored();
+	}
+
+	/**
+	 * @return Whole RF stored, which may be more than an int can hold
+	 */
+	public long getEnergyStoredRF() {
+		return energyBuffer.getEnergyStoredRF();
+	}
+
+	public long getEnergyCapacity() {
+		return energyBuffer.getCapacity();
 	}
 
 	/**
@@ -810,6 +1053,8 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	public void setWasteEjection(WasteEjectionSetting newSetting) {
 		if(this.wasteEjection != newSetting) {
 			this.wasteEjection = newSetting;
+			wasteEjectionRetryAmount = 0;
+			wake();
 			
 			if(!this.worldObj.isRemote) {
 				markReferenceCoordDirty();
@@ -827,6 +1072,63 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		return this.wasteEjection;
 	}
 
+	/**
+	 * Called by access ports when their contents or settings change.
+	 */
+	public void onAccessPortChanged() {
+		accessPortsChanged = true;
+		wake();
+	}
+	
+	/**
+	 * Ports are only scanned for fuel once there's room for a batch of it, and then only
+	 * if a port has changed or there's room for another ingot since the last scan came up short.
+	 */
+	private boolean shouldRefuel() {
+		int space = fuelContainer.getRemainingSpace();
+		if(space < getRefuelBatchSpace()) { return false; }
+
+		return accessPortsChanged || space >= refuelRetrySpace;
+	}
+	
+	private void onRefuelAttempted() {
+		// If there's still room for a batch, the ports couldn't fill it
+		int space = fuelContainer.getRemainingSpace();
+		refuelRetrySpace = space >= getRefuelBatchSpace() ? space + Reactants.standardSolidReactantAmount : 0;
+	}
+	
+	private int getRefuelBatchSpace() {
+		return Math.min(Reactants.standardSolidReactantAmount * Math.max(1, BigReactors.reactorReactantBatchSize), fuelContainer.getCapacity());
+	}
+	
+	/**
+	 * Waste is only ejected once there's a batch of it, or the reactor is nearly full, and then only
+	 * if a port has changed or there's another ingot's worth since the last attempt came up short.
+	 */
+	private boolean shouldEjectWaste() {
+		String wasteType = fuelContainer.getWasteType();
+		if(wasteType == null) { return false; }
+
+		if(!wasteType.equals(wasteEjectionType)) {
+			wasteEjectionType = wasteType;
+			wasteEjectionMinimum = Reactants.getMinimumReactantToProduceSolid(wasteType);
+		}
+
+		int waste = fuelContainer.getWasteAmount();
+		if(waste < wasteEjectionMinimum) { return false; }
+
+		int batchAmount = Math.min(wasteEjectionMinimum * Math.max(1, BigReactors.reactorReactantBatchSize), fuelContainer.getCapacity());
+		if(waste < batchAmount && fuelContainer.getRemainingSpace() >= Reactants.standardSolidReactantAmount) { return false; }
+
+		return accessPortsChanged || waste >= wasteEjectionRetryAmount;
+	}
+	
+	private void onWasteEjectionAttempted() {
+		// If there's still enough waste to make an ingot, the ports couldn't take it
+		int waste = fuelContainer.getWasteAmount();
+		wasteEjectionRetryAmount = (wasteEjectionType != null && waste >= wasteEjectionMinimum) ? waste + wasteEjectionMinimum : 0;
+	}
+
 	protected void refuel() {
 		// For now, we only need to check fuel ports when we have more space than can accomodate 1 ingot
 		if(fuelContainer.getRemainingSpace() < Reactants.standardSolidReactantAmount) {
@@ -981,21 +1283,69 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 
 	@Override
 	protected void onMachineAssembled() {
+		interiorValidator.reset();
 		recalculateDerivedValues();
+		updateFingerprint();
 	}
 
 	@Override
 	protected void onMachineRestored() {
-		recalculateDerivedValues();
+		interiorValidator.reset();
+		if(assembledFromFingerprint && pausedAt >= 0 && worldObj.getTotalWorldTime() - pausedAt <= fingerprintRestoreTicks) {
+			// Briefly paused and unchanged, e.g. a chunk flickering in and out of range.
+			// The derived values still hold; only the reloaded tile entities need picking up.
+			completeRadiation();
+			interiorLattice.relink(worldObj);
+		}
+		else {
+			recalculateDerivedValues();
+		}
+		updateFingerprint();
+		pausedAt = -1;
 	}
 
 	@Override
 	protected void onMachinePaused() {
+		pausedAt = worldObj.getTotalWorldTime();
 	}
 
 	@Override
 	protected void onMachineDisassembled() {
 		this.active = false;
+		completeRadiation();
+		radiationAssimilated = false;
+		interiorLattice.clear();
+		fingerprint = null;
+		pausedAt = -1;
+	}
+
+	private void updateFingerprint() {
+		if(!assembledFromFingerprint && !worldObj.isRemote) {
+			fingerprint = AssemblyFingerprint.capture(worldObj, getMinimumCoord(), getMaximumCoord(), getFingerprintPartCounts());
+		}
+		assembledFromFingerprint = false;
+	}
+
+	private int[] getFingerprintPartCounts() {
+		return new int[] { connectedParts.size(), attachedFuelRods.size(), attachedControlRods.size(), attachedControllers.size() };
+	}
+	
+	/**
+	 * Called when a block adjacent to one of this reactor's parts changes.
+	 * Refreshes the cached copy of any interior blocks around that part, and with it the heat
+	 * transfer from the fuel rods beside them. The reactor stays assembled.
+	 * @param x X coordinate of the part whose neighbor changed
+	 * @param y Y coordinate of the part whose neighbor changed
+	 * @param z Z coordinate of the part whose neighbor changed
+	 */
+	public void onPartNeighborChanged(int x, int y, int z) {
+		if(worldObj.isRemote) { return; }
+		interiorValidator.onInteriorChanged();
+		if(!isAssembled()) { return; }
+		wake();
+		completeRadiation();
+		interiorLattice.refreshNeighbors(worldObj, x, y, z);
+		model.setFuelToReactorHeatTransferCoefficient(model.calculateFuelToReactorHeatTransferCoefficient());
 	}
 
 	private void recalculateDerivedValues() {
@@ -1007,31 +1357,9 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		fuelContainer.setCapacity(attachedFuelRods.size() * FuelCapacityPerFuelRod);
 
 		// Calculate derived stats
-		
-		// Calculate heat transfer based on fuel rod environment
-		fuelToReactorHeatTransferCoefficient = 0f;
-		for(TileEntityReactorFuelRod fuelRod : attachedFuelRods) {
-			fuelToReactorHeatTransferCoefficient += fuelRod.getHeatTransferRate();
-		}
-
-		// Calculate heat transfer to coolant system based on reactor interior surface area.
-		// This is pretty simple to start with - surface area of the rectangular prism defining the interior.
-		int xSize = maxCoord.x - minCoord.x - 1;
-		int ySize = maxCoord.y - minCoord.y - 1;
-		int zSize = maxCoord.z - minCoord.z - 1;
-		
-		int surfaceArea = 2 * (xSize * ySize + xSize * zSize + ySize * zSize);
-		
-		reactorToCoolantSystemHeatTransferCoefficient = IHeatEntity.conductivityIron * surfaceArea;
 
-		// Calculate passive heat loss.
-		// Get external surface area
-		xSize += 2;
-		ySize += 2;
-		zSize += 2;
-		
-		surfaceArea = 2 * (xSize * ySize + xSize * zSize + ySize * zSize);
-		reactorHeatLossCoefficient = reactorHeatLossConductivity * surfaceArea;
+		// Volume, heat transfer to the coolant system and passive heat loss all follow from the interior's size
+		model.setInteriorSize(maxCoord.x - minCoord.x - 1, maxCoord.y - minCoord.y - 1, maxCoord.z - minCoord.z - 1);
 		
 		if(worldObj.isRemote) {
 			// Make sure our fuel rods re-render
@@ -1042,10 +1370,16 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 			markReferenceCoordForUpdate();
 		}
 		
-		calculateReactorVolume();
+		// Built on both sides; clients use it as an index of fuel columns
+		wake();
+		completeRadiation();
+		interiorLattice.build(worldObj, minCoord, maxCoord);
+
+		// Calculate heat transfer based on fuel rod environment, as read into the lattice
+		model.setFuelToReactorHeatTransferCoefficient(model.calculateFuelToReactorHeatTransferCoefficient());
 		
 		if(attachedCoolantPorts.size() > 0) {
-			int outerVolume = StaticUtils.ExtraMath.Volume(minCoord, maxCoord) - reactorVolume;
+			int outerVolume = StaticUtils.ExtraMath.Volume(minCoord, maxCoord) - getReactorVolume();
 			coolantContainer.setCapacity(Math.max(0, Math.min(50000, outerVolume * 100)));
 		}
 		else {
@@ -1072,28 +1406,28 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	 * Used to update the UI
 	 */
 	public void setEnergyGeneratedLastTick(float energyGeneratedLastTick) {
-		this.energyGeneratedLastTick = energyGeneratedLastTick;
+		model.setEnergyGeneratedLastTick(energyGeneratedLastTick);
 	}
 
 	/**
 	 * UI Helper
 	 */
 	public float getEnergyGeneratedLastTick() {
-		return this.energyGeneratedLastTick;
+		return model.getEnergyGeneratedLastTick();
 	}
 	
 	/**
 	 * Used to update the UI
 	 */
 	public void setFuelConsumedLastTick(float fuelConsumed) {
-		fuelConsumedLastTick = fuelConsumed;
+		model.setFuelConsumedLastTick(fuelConsumed);
 	}
 	
 	/**
 	 * UI Helper
 	 */
 	public float getFuelConsumedLastTick() {
-		return fuelConsumedLastTick;
+		return model.getFuelConsumedLastTick();
 	}
 
 	/**
@@ -1113,7 +1447,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	@Override
 	public int extractEnergy(ForgeDirection from, int maxExtract,
 			boolean simulate) {
-		int amtRemoved = (int)Math.min(maxExtract, this.energyStored);
+		int amtRemoved = (int)Math.min(maxExtract, energyBuffer.getEnergyStoredRF());
 		if(!simulate) {
 			this.reduceStoredEnergy(amtRemoved);
 		}
@@ -1127,12 +1461,12 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 
 	@Override
 	public int getEnergyStored(ForgeDirection from) {
-		return (int)energyStored;
+		return energyBuffer.getEnergyStoredInt();
 	}
 
 	@Override
 	public int getMaxEnergyStored(ForgeDirection from) {
-		return maxEnergyStored;
+		return energyBuffer.getCapacityInt();
 	}
 
 	// Redstone helper
@@ -1156,14 +1490,23 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		}
 	}
 
+	/**
+	 * @return The locations of this reactor's control rods, ordered by fuel column
+	 */
 	public CoordTriplet[] getControlRodLocations() {
-		CoordTriplet[] coords = new CoordTriplet[this.attachedControlRods.size()];
-		int i = 0;
-		for(TileEntityReactorControlRod cr : attachedControlRods) {
-			coords[i++] = cr.getWorldLocation();
+		CoordTriplet[] coords = new CoordTriplet[interiorLattice.getControlRodCount()];
+		for(int i = 0; i < coords.length; i++) {
+			coords[i] = interiorLattice.getIndexedControlRod(i).getWorldLocation();
 		}
 		return coords;
 	}
+	
+	/**
+	 * @return A cached copy of this reactor's interior and index of its fuel columns. Empty when not assembled.
+	 */
+	public ReactorInteriorLattice getInteriorLattice() {
+		return interiorLattice;
+	}
 
 	public int getFuelAmount() {
 		return fuelContainer.getFuelAmount();
@@ -1182,7 +1525,7 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	}
 
 	public int getEnergyStoredPercentage() {
-		return (int)(this.energyStored / (float)this.maxEnergyStored * 100f);
+		return (int)(energyBuffer.getFillFraction() * 100f);
 	}
 
 	@Override
@@ -1198,47 +1541,35 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 	public float getFuelFertility() {
 		return radiationHelper.getFertilityModifier();
 	}
-	
+
+	/**
+	 * @return The reactor's physics, which can also be stepped without a world
+	 */
+	public ReactorModel getReactorModel() {
+		return model;
+	}
+
 	// Coolant subsystem
 	public CoolantContainer getCoolantContainer() {
 		return coolantContainer;
 	}
 	
 	protected float getPassiveCoolantTemperature() {
-		return IHeatEntity.ambientHeat;
+		return model.getPassiveCoolantTemperature();
 	}
 
 	protected float getCoolantTemperature() {
-		if(isPassivelyCooled()) {
-			return getPassiveCoolantTemperature();
-		}
-		else {
-			return coolantContainer.getCoolantTemperature(getReactorHeat());
-		}
+		return model.getCoolantTemperature();
 	}
 	
 	public boolean isPassivelyCooled() {
-		if(coolantContainer == null || coolantContainer.getCapacity() <= 0) { return true; }
-		else { return false; }
+		return model.isPassivelyCooled();
 	}
 	
 	protected int getReactorVolume() {
-		return reactorVolume;
+		return model.getReactorVolume();
 	}
 	
-	protected void calculateReactorVolume() {
-		CoordTriplet minInteriorCoord = getMinimumCoord();
-		minInteriorCoord.x += 1;
-		minInteriorCoord.y += 1;
-		minInteriorCoord.z += 1;
-		
-		CoordTriplet maxInteriorCoord = getMaximumCoord();
-		maxInteriorCoord.x -= 1;
-		maxInteriorCoord.y -= 1;
-		maxInteriorCoord.z -= 1;
-		
-		reactorVolume = StaticUtils.ExtraMath.Volume(minInteriorCoord, maxInteriorCoord);
-	}
 
 	// Client-only
 	protected void onFuelStatusChanged() {
@@ -1291,16 +1622,24 @@ public class MultiblockReactor extends RectangularMultiblockControllerBase imple
 		
 		if(isAssembled()) {
 			sb.append("\nActive: ").append(Boolean.toString(getActive()));
-			sb.append("\nStored Energy: ").append(Float.toString(getEnergyStored()));
+			sb.append("\nDormant: ").append(Boolean.toString(isDormant()));
+			sb.append("\nStored Energy: ").append(Double.toString(getEnergyStored()));
 			sb.append("\nCasing Heat: ").append(Float.toString(getReactorHeat()));
 			sb.append("\nFuel Heat: ").append(Float.toString(getFuelHeat()));
 			sb.append("\n\nReactant Tanks:\n");
 			sb.append( fuelContainer.getDebugInfo() );
+			sb.append("\n\nRadiation:\n");
+			sb.append( radiationHelper.getDebugInfo() );
 			sb.append("\n\nActively Cooled: ").append(Boolean.toString(!isPassivelyCooled()));
 			if(!isPassivelyCooled()) {
 				sb.append("\n\nCoolant Tanks:\n");
 				sb.append( coolantContainer.getDebugInfo() );
 			}
+
+			String profile = MultiblockProfiler.getReport(this);
+			if(profile != null) {
+				sb.append("\n\nTick Profile:\n").append(profile);
+			}
 		}
 
 		return sb.toString();
@@ -3,13 +3,13 @@ package erogenousbeef.bigreactors.common.multiblock;
 import io.netty.buffer.ByteBuf;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
@@ -20,7 +20,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 import net.minecraftforge.fluids.FluidTankInfo;
 import cofh.api.energy.IEnergyProvider;
-import cofh.lib.util.helpers.ItemHelper;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -31,7 +30,16 @@ import erogenousbeef.bigreactors.common.BigReactors;
 import erogenousbeef.bigreactors.common.block.BlockBRMetal;
 import erogenousbeef.bigreactors.common.interfaces.IMultipleFluidHandler;
 import erogenousbeef.bigreactors.common.multiblock.block.BlockTurbineRotorPart;
+import erogenousbeef.bigreactors.common.multiblock.helpers.AsyncInteriorValidator;
+import erogenousbeef.bigreactors.common.multiblock.helpers.BlockSnapshot;
+import erogenousbeef.bigreactors.common.multiblock.helpers.ChunkSectionScanner;
+import erogenousbeef.bigreactors.common.multiblock.helpers.EnergyBuffer;
 import erogenousbeef.bigreactors.common.multiblock.helpers.FloatUpdateTracker;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockProfiler;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockTickBudget;
+import erogenousbeef.bigreactors.common.multiblock.helpers.MultiblockVoxelGrid;
+import erogenousbeef.bigreactors.common.multiblock.helpers.PowerDistributor;
+import erogenousbeef.bigreactors.common.multiblock.helpers.TickScheduler;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.IActivateable;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityTurbinePartBase;
@@ -42,6 +50,7 @@ import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityTurbineR
 import erogenousbeef.bigreactors.gui.container.ISlotlessUpdater;
 import erogenousbeef.bigreactors.net.CommonPacketHandler;
 import erogenousbeef.bigreactors.net.message.multiblock.TurbineUpdateMessage;
+import erogenousbeef.bigreactors.utils.CurveTable;
 import erogenousbeef.bigreactors.utils.StaticUtils;
 import erogenousbeef.core.common.CoordTriplet;
 import erogenousbeef.core.multiblock.IMultiblockPart;
@@ -62,6 +71,7 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 	private Set<EntityPlayer> updatePlayers;
 	private int ticksSinceLastUpdate;
 	private static final int ticksBetweenUpdates = 3;
+	private int ticksTickablesDeferred; // Ticks in a row tickables were put off to stay within the tick budget
 
 	// Fluid tanks. Input = Steam, Output = Water.
 	public static final int TANK_INPUT = 0;
@@ -73,10 +83,8 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 
 	private FluidTank[] tanks;
 	
-	static final float maxEnergyStored = 1000000f; // 1 MegaRF
-	
 	// Persistent game data
-	float energyStored;
+	EnergyBuffer energyBuffer;
 	boolean active;
 	float rotorEnergy;
 	boolean inductorEngaged;
@@ -116,7 +124,15 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 	private Set<TileEntityTurbineRotorBearing> attachedRotorBearings;
 	
 	private Set<TileEntityTurbinePowerTap> attachedPowerTaps;
-	private Set<ITickableMultiblockPart> attachedTickables;
+	private PowerDistributor powerDistributor;
+	private TickScheduler tickScheduler;
+
+	// Tick phases, for profiling
+	private static final int PHASE_ROTOR = 0;
+	private static final int PHASE_POWER = 1;
+	private static final int PHASE_TICKABLES = 2;
+	private static final int PHASE_PACKETS = 3;
+	private static final String[] PHASE_NAMES = { "Rotor", "Power", "Tickables", "Packets" };
 	
 	private Set<TileEntityTurbineRotorPart> attachedRotorShafts;
 	private Set<TileEntityTurbineRotorPart> attachedRotorBlades;
@@ -124,13 +140,26 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 	private Set<TileEntityTurbinePartGlass> attachedGlass; 
 	
 	// Data caches for validation
-	private Set<CoordTriplet> foundCoils;
+	private MultiblockVoxelGrid validationGrid;	// Rotor shafts, blades and coils found, by GRID_ plane
+	public static final int GRID_SHAFT = 0;
+	public static final int GRID_BLADE = 1;
+	public static final int GRID_COIL = 2;
+	private AsyncInteriorValidator interiorValidator;	// See BigReactors.asyncMultiblockValidation
+	private boolean interiorValidated;	// While isMachineWhole() runs, if the interior already passed
 
 	private FloatUpdateTracker rpmUpdateTracker;
 	
 	private static final ForgeDirection[] RotorXBladeDirections = new ForgeDirection[] { ForgeDirection.UP, ForgeDirection.SOUTH, ForgeDirection.DOWN, ForgeDirection.NORTH };
 	private static final ForgeDirection[] RotorZBladeDirections = new ForgeDirection[] { ForgeDirection.UP, ForgeDirection.EAST, ForgeDirection.DOWN, ForgeDirection.WEST };
 	
+	// Rotor efficiency by rotor speed. Repeats every 2 * PI * 45.5 * PI RPM.
+	public static final CurveTable rotorEfficiencyCurve = new CurveTable(0f, (float)(2.0 * Math.PI * 45.5 * Math.PI), true) {
+		@Override
+		protected double evaluate(double rotorSpeed) {
+			return (float)(0.25*Math.cos(rotorSpeed/(45.5*Math.PI))) + 0.75f;
+		}
+	};
+	
 	public MultiblockTurbine(World world) {
 		super(world);
 
@@ -145,12 +174,13 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		attachedControllers = new HashSet<IMultiblockPart>();
 		attachedRotorBearings = new HashSet<TileEntityTurbineRotorBearing>();
 		attachedPowerTaps = new HashSet<TileEntityTurbinePowerTap>();
-		attachedTickables = new HashSet<ITickableMultiblockPart>();
+		powerDistributor = new PowerDistributor();
+		tickScheduler = new TickScheduler();
 		attachedRotorShafts = new HashSet<TileEntityTurbineRotorPart>();
 		attachedRotorBlades = new HashSet<TileEntityTurbineRotorPart>();
 		attachedGlass = new HashSet<TileEntityTurbinePartGlass>();
 		
-		energyStored = 0f;
+		energyBuffer = new EnergyBuffer(BigReactors.turbineEnergyCapacity);
 		active = false;
 		inductorEngaged = true;
 		ventStatus = VentStatus.VentOverflow;
@@ -164,7 +194,9 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		fluidConsumedLastTick = 0;
 		rotorEfficiencyLastTick = 1f;
 		
-		foundCoils = new HashSet<CoordTriplet>();
+		validationGrid = new MultiblockVoxelGrid(3);
+		interiorValidator = new AsyncInteriorValidator(this, interiorChecker);
+		interiorValidated = false;
 		
 		rpmUpdateTracker = new FloatUpdateTracker(100, 5, 10f, 100f); // Minimum 10RPM difference for slow updates, if change > 100 RPM, update every 5 ticks
 	}
@@ -207,11 +239,13 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		}
 		
 		if(newPart instanceof TileEntityTurbinePowerTap) {
-			attachedPowerTaps.add((TileEntityTurbinePowerTap)newPart);
+			TileEntityTurbinePowerTap powerTap = (TileEntityTurbinePowerTap)newPart;
+			attachedPowerTaps.add(powerTap);
+			powerDistributor.setConnected(powerTap, powerTap.hasEnergyConnection());
 		}
 		
 		if(newPart instanceof ITickableMultiblockPart) {
-			attachedTickables.add((ITickableMultiblockPart)newPart);
+			tickScheduler.add((ITickableMultiblockPart)newPart);
 		}
 		
 		if(newPart instanceof TileEntityTurbineRotorPart) {
@@ -239,10 +273,11 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		
 		if(oldPart instanceof TileEntityTurbinePowerTap) {
 			attachedPowerTaps.remove((TileEntityTurbinePowerTap)oldPart);
+			powerDistributor.setConnected((TileEntityTurbinePowerTap)oldPart, false);
 		}
 
 		if(oldPart instanceof ITickableMultiblockPart) {
-			attachedTickables.remove((ITickableMultiblockPart)oldPart);
+			tickScheduler.remove((ITickableMultiblockPart)oldPart);
 		}
 		
 		if(oldPart instanceof TileEntityTurbineRotorPart) {
@@ -261,13 +296,31 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		}
 	}
 
+	/**
+	 * Update a tickable part on the next tick, even if it's sleeping or not due yet.
+	 */
+	public void wakeTickable(ITickableMultiblockPart part) {
+		tickScheduler.wake(part);
+	}
+	
+	/**
+	 * Called by power taps when they may have gained or lost their energy connection.
+	 */
+	public void onPowerTapConnectionChanged(TileEntityTurbinePowerTap powerTap) {
+		if(!attachedPowerTaps.contains(powerTap)) { return; }
+
+		powerDistributor.setConnected(powerTap, powerTap.hasEnergyConnection());
+	}
+
 	@Override
 	protected void onMachineAssembled() {
+		interiorValidator.reset();
 		recalculateDerivedStatistics();
 	}
 
 	@Override
 	protected void onMachineRestored() {
+		interiorValidator.reset();
 		recalculateDerivedStatistics();
 	}
 
@@ -285,6 +338,18 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		rpmUpdateTracker.setValue(0f);
 	}
 
+	/**
+	 * Called when a block adjacent to one of this turbine's parts changes.
+	 * Restarts any check of the interior in flight, as its snapshot may no longer match.
+	 * @param x X coordinate of the part whose neighbor changed
+	 * @param y Y coordinate of the part whose neighbor changed
+	 * @param z Z coordinate of the part whose neighbor changed
+	 */
+	public void onPartNeighborChanged(int x, int y, int z) {
+		if(worldObj.isRemote) { return; }
+		interiorValidator.onInteriorChanged();
+	}
+
 	// Validation code
 	@Override
 	protected void isMachineWhole() throws MultiblockValidationException {
@@ -293,9 +358,28 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		}
 		
 		// Set up validation caches
-		foundCoils.clear();
-		
-		super.isMachineWhole();
+		CoordTriplet minCoord = getMinimumCoord();
+		CoordTriplet maxCoord = getMaximumCoord();
+		validationGrid.reset(minCoord, maxCoord);
+
+		// Check the interior's blocks on a worker thread first, unless the turbine is already running.
+		// Changes to a running turbine must take effect right away.
+		if(BigReactors.asyncMultiblockValidation && !worldObj.isRemote && !isAssembled() &&
+				connectedParts.size() >= getMinimumNumberOfBlocksForAssembledMachine() &&
+				AsyncInteriorValidator.isWithinSizeLimits(minCoord, maxCoord,
+						getMinimumXSize(), getMaximumXSize(), getMinimumYSize(), getMaximumYSize(), getMinimumZSize(), getMaximumZSize())) {
+			for(CoordTriplet coil : interiorValidator.validate(worldObj, minCoord, maxCoord, connectedParts)) {
+				validationGrid.set(GRID_COIL, coil.x, coil.y, coil.z);
+			}
+			interiorValidated = true;
+		}
+
+		try {
+			super.isMachineWhole();
+		}
+		finally {
+			interiorValidated = false;
+		}
 		
 		// Now do additional validation based on the coils/blades/rotors that were found
 		
@@ -303,30 +387,39 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		TileEntityTurbinePartBase rotorPart = attachedRotorBearings.iterator().next();
 		
 		// Rotor bearing must calculate outwards dir, as this is normally only calculated in onMachineAssembled().
-		rotorPart.recalculateOutwardsDirection(getMinimumCoord(), getMaximumCoord());
+		rotorPart.recalculateOutwardsDirection(minCoord, maxCoord);
 		
 		// Find out which way the rotor runs. Obv, this is inwards from the bearing.
 		ForgeDirection rotorDir = rotorPart.getOutwardsDir().getOpposite();
-		CoordTriplet rotorCoord = rotorPart.getWorldLocation();
-		
-		CoordTriplet minRotorCoord = getMinimumCoord();
-		CoordTriplet maxRotorCoord = getMaximumCoord();
-		
-		// Constrain min/max rotor coords to where the rotor bearing is and the block opposite it
-		if(rotorDir.offsetX == 0) {
-			minRotorCoord.x = maxRotorCoord.x = rotorCoord.x;
-		}
-		if(rotorDir.offsetY == 0) {
-			minRotorCoord.y = maxRotorCoord.y = rotorCoord.y;
+
+		for(TileEntityTurbineRotorPart part : attachedRotorShafts) {
+			validationGrid.set(GRID_SHAFT, part.xCoord, part.yCoord, part.zCoord);
 		}
-		if(rotorDir.offsetZ == 0) {
-			minRotorCoord.z = maxRotorCoord.z = rotorCoord.z;
+
+		for(TileEntityTurbineRotorPart part : attachedRotorBlades) {
+			validationGrid.set(GRID_BLADE, part.xCoord, part.yCoord, part.zCoord);
 		}
+		
+		validateRotor(validationGrid, rotorPart.getWorldLocation(), rotorDir, minCoord, maxCoord);
+	}
+	
+	/**
+	 * Check that the rotor shafts, blades and coils in a validation grid form a single rotor: a shaft
+	 * running from the bearing to the far side of the turbine, with blades extending from it nearest
+	 * the bearing and coils in rings around it further along. Empties the grid as it goes.
+	 * @param grid Rotor shafts, blades and coils, in the GRID_SHAFT, GRID_BLADE and GRID_COIL planes
+	 * @param bearingCoord Location of the rotor bearing, in the turbine's casing
+	 * @param rotorDir Direction the rotor runs in, inwards from the bearing
+	 */
+	public static void validateRotor(MultiblockVoxelGrid grid, CoordTriplet bearingCoord, ForgeDirection rotorDir, CoordTriplet minCoord, CoordTriplet maxCoord) throws MultiblockValidationException {
+		int x = bearingCoord.x, y = bearingCoord.y, z = bearingCoord.z;
 
-		// Figure out where the rotor ends and which directions are normal to the rotor's 4 faces (this is where blades emit from)
-		CoordTriplet endRotorCoord = rotorCoord.equals(minRotorCoord) ? maxRotorCoord : minRotorCoord;
-		endRotorCoord.translate(rotorDir.getOpposite());
+		// The rotor ends just inside the casing opposite the bearing
+		int endX = rotorDir.offsetX == 0 ? x : (x == minCoord.x ? maxCoord.x : minCoord.x) - rotorDir.offsetX;
+		int endY = rotorDir.offsetY == 0 ? y : (y == minCoord.y ? maxCoord.y : minCoord.y) - rotorDir.offsetY;
+		int endZ = rotorDir.offsetZ == 0 ? z : (z == minCoord.z ? maxCoord.z : minCoord.z) - rotorDir.offsetZ;
 
+		// Figure out which directions are normal to the rotor's 4 faces (this is where blades emit from)
 		ForgeDirection[] bladeDirections;
 		if(rotorDir.offsetY != 0) { 
 			bladeDirections = StaticUtils.CardinalDirections;
@@ -338,83 +431,74 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 			bladeDirections = RotorZBladeDirections;
 		}
 
-		Set<CoordTriplet> rotorShafts = new HashSet<CoordTriplet>(attachedRotorShafts.size());
-		Set<CoordTriplet> rotorBlades = new HashSet<CoordTriplet>(attachedRotorBlades.size());
-		
-		for(TileEntityTurbineRotorPart part : attachedRotorShafts) {
-			rotorShafts.add(part.getWorldLocation());
-		}
-
-		for(TileEntityTurbineRotorPart part : attachedRotorBlades) {
-			rotorBlades.add(part.getWorldLocation());
-		}
-		
 		// Move along the length of the rotor, 1 block at a time
 		boolean encounteredCoils = false;
-		while(!rotorShafts.isEmpty() && !rotorCoord.equals(endRotorCoord)) {
-			rotorCoord.translate(rotorDir);
+		while(!grid.isEmpty(GRID_SHAFT) && (x != endX || y != endY || z != endZ)) {
+			x += rotorDir.offsetX;
+			y += rotorDir.offsetY;
+			z += rotorDir.offsetZ;
 			
 			// Ensure we find a rotor block along the length of the entire rotor
-			if(!rotorShafts.remove(rotorCoord)) {
-				throw new MultiblockValidationException(String.format("%s - This block must contain a rotor. The rotor must begin at the bearing and run the entire length of the turbine", rotorCoord));
+			if(!grid.remove(GRID_SHAFT, x, y, z)) {
+				throw new MultiblockValidationException(String.format("%s - This block must contain a rotor. The rotor must begin at the bearing and run the entire length of the turbine", new CoordTriplet(x, y, z)));
 			}
 			
 			// Now move out in the 4 rotor normals, looking for blades and coils
-			CoordTriplet checkCoord = rotorCoord.copy();
 			boolean encounteredBlades = false;
 			for(ForgeDirection bladeDir : bladeDirections) {
-				checkCoord.copy(rotorCoord);
 				boolean foundABlade = false;
-				checkCoord.translate(bladeDir);
+				int checkX = x + bladeDir.offsetX;
+				int checkY = y + bladeDir.offsetY;
+				int checkZ = z + bladeDir.offsetZ;
 				
 				// If we find 1 blade, we can keep moving along the normal to find more blades
-				while(rotorBlades.remove(checkCoord)) {
+				while(grid.remove(GRID_BLADE, checkX, checkY, checkZ)) {
 					// We found a coil already?! NOT ALLOWED.
 					if(encounteredCoils) {
-						throw new MultiblockValidationException(String.format("%s - Rotor blades must be placed closer to the rotor bearing than all other parts inside a turbine", checkCoord));
+						throw new MultiblockValidationException(String.format("%s - Rotor blades must be placed closer to the rotor bearing than all other parts inside a turbine", new CoordTriplet(checkX, checkY, checkZ)));
 					}
 					foundABlade = encounteredBlades = true;
-					checkCoord.translate(bladeDir);
+					checkX += bladeDir.offsetX;
+					checkY += bladeDir.offsetY;
+					checkZ += bladeDir.offsetZ;
 				}
 
 				// If this block wasn't a blade, check to see if it was a coil
 				if(!foundABlade) {
-					if(foundCoils.remove(checkCoord)) {
+					if(grid.remove(GRID_COIL, checkX, checkY, checkZ)) {
 						encounteredCoils = true;
 
 						// We cannot have blades and coils intermix. This prevents intermixing, depending on eval order.
 						if(encounteredBlades) {
-							throw new MultiblockValidationException(String.format("%s - Metal blocks must by placed further from the rotor bearing than all rotor blades", checkCoord));
+							throw new MultiblockValidationException(String.format("%s - Metal blocks must by placed further from the rotor bearing than all rotor blades", new CoordTriplet(checkX, checkY, checkZ)));
 						}
 						
 						// Check the two coil spots in the 'corners', which are permitted if they're connected to the main rotor coil somehow
-						CoordTriplet coilCheck = checkCoord.copy();
-						coilCheck.translate(bladeDir.getRotation(rotorDir));
-						foundCoils.remove(coilCheck);
-						coilCheck.copy(checkCoord);
-						coilCheck.translate(bladeDir.getRotation(rotorDir.getOpposite()));
-						foundCoils.remove(coilCheck);
+						ForgeDirection cornerDir = bladeDir.getRotation(rotorDir);
+						grid.remove(GRID_COIL, checkX + cornerDir.offsetX, checkY + cornerDir.offsetY, checkZ + cornerDir.offsetZ);
+						cornerDir = bladeDir.getRotation(rotorDir.getOpposite());
+						grid.remove(GRID_COIL, checkX + cornerDir.offsetX, checkY + cornerDir.offsetY, checkZ + cornerDir.offsetZ);
 					}
 					// Else: It must have been air.
 				}
 			}
 		}
 		
-		if(!rotorCoord.equals(endRotorCoord)) {
+		if(x != endX || y != endY || z != endZ) {
 			throw new MultiblockValidationException("The rotor shaft must extend the entire length of the turbine interior.");
 		}
 		
 		// Ensure that we encountered all the rotor, blade and coil blocks. If not, there's loose stuff inside the turbine.
-		if(!rotorShafts.isEmpty()) {
-			throw new MultiblockValidationException(String.format("Found %d rotor blocks that are not attached to the main rotor. All rotor blocks must be in a column extending the entire length of the turbine, starting from the bearing.", rotorShafts.size()));
+		if(!grid.isEmpty(GRID_SHAFT)) {
+			throw new MultiblockValidationException(String.format("Found %d rotor blocks that are not attached to the main rotor. All rotor blocks must be in a column extending the entire length of the turbine, starting from the bearing.", grid.count(GRID_SHAFT)));
 		}
 
-		if(!rotorBlades.isEmpty()) {
-			throw new MultiblockValidationException(String.format("Found %d rotor blades that are not attached to the rotor. All rotor blades must extend continuously from the rotor's shaft.", rotorBlades.size()));
+		if(!grid.isEmpty(GRID_BLADE)) {
+			throw new MultiblockValidationException(String.format("Found %d rotor blades that are not attached to the rotor. All rotor blades must extend continuously from the rotor's shaft.", grid.count(GRID_BLADE)));
 		}
 		
-		if(!foundCoils.isEmpty()) {
-			throw new MultiblockValidationException(String.format("Found %d metal blocks which were not in a ring around the rotor. All metal blocks must be in rings, or partial rings, around the rotor.", foundCoils.size()));
+		if(!grid.isEmpty(GRID_COIL)) {
+			throw new MultiblockValidationException(String.format("Found %d metal blocks which were not in a ring around the rotor. All metal blocks must be in rings, or partial rings, around the rotor.", grid.count(GRID_COIL)));
 		}
 
 		// A-OK!
@@ -422,18 +506,36 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 	
 	@Override
 	protected void isBlockGoodForInterior(World world, int x, int y, int z) throws MultiblockValidationException {
+		if(interiorValidated) { return; } // Already checked on a worker thread, see isMachineWhole()
+
 		// We only allow air and functional parts in turbines.
 
 		// Air is ok
 		if(world.isAirBlock(x, y, z)) { return; }
 
-		Block block = world.getBlock(x, y, z);
-		int metadata = world.getBlockMetadata(x,y,z);
+		if(checkInteriorBlock(world.getBlock(x, y, z), world.getBlockMetadata(x,y,z), x, y, z)) {
+			validationGrid.set(GRID_COIL, x, y, z);
+		}
+	}
+
+	private static final AsyncInteriorValidator.IInteriorBlockChecker interiorChecker = new AsyncInteriorValidator.IInteriorBlockChecker() {
+		@Override
+		public void checkInteriorBlock(BlockSnapshot snapshot, int x, int y, int z, List<CoordTriplet> found) throws MultiblockValidationException {
+			if(snapshot.isAirBlock(x, y, z)) { return; }
+			if(MultiblockTurbine.checkInteriorBlock(snapshot.getBlock(x, y, z), snapshot.getBlockMetadata(x, y, z), x, y, z)) {
+				found.add(new CoordTriplet(x, y, z));
+			}
+		}
+	};
 
+	/**
+	 * Check a block other than air in the turbine's interior. Only reads the registries, so may run on a worker thread.
+	 * @return True if the block is a coil part
+	 */
+	private static boolean checkInteriorBlock(Block block, int metadata, int x, int y, int z) throws MultiblockValidationException {
 		// Coil windings below here:
 		if(getCoilPartData(x, y, z, block, metadata) != null) {
-			foundCoils.add(new CoordTriplet(x,y,z));
-			return;
+			return true;
 		}
 
 		// Everything else, gtfo
@@ -487,12 +589,17 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 	protected void onAssimilated(MultiblockControllerBase assimilator) {
 		attachedControllers.clear();
 		attachedRotorBearings.clear();
-		attachedTickables.clear();
+		tickScheduler.clear();
 		attachedPowerTaps.clear();
+		powerDistributor.clear();
 	}
 
 	@Override
 	protected boolean updateServer() {
+		MultiblockProfiler profiler = MultiblockProfiler.forMultiblock(this, PHASE_NAMES);
+		long t = profiler != null ? profiler.start() : 0L;
+		long budgetStart = MultiblockTickBudget.begin();
+
 		energyGeneratedLastTick = 0f;
 		fluidConsumedLastTick = 0;
 		rotorEfficiencyLastTick = 1f;
@@ -545,10 +652,11 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 			// Yay for derivation. We're assuming delta-Time is always 1, as we're always calculating for 1 tick.
 			// RFs available to coils
 			float inductionTorque = inductorEngaged ? rotorSpeed * inductorDragCoefficient * coilSize : 0f;
-			float energyToGenerate = (float)Math.pow(inductionTorque, inductionEnergyExponentBonus) * inductionEfficiency;
+			float energyToGenerate = inductionEnergyExponentBonus == 1f ? inductionTorque : (float)Math.pow(inductionTorque, inductionEnergyExponentBonus);
+			energyToGenerate *= inductionEfficiency;
 			if(energyToGenerate > 0f) {
 				// Efficiency curve. Rotors are 50% less efficient when not near 900/1800 RPMs.
-				float efficiency = (float)(0.25*Math.cos(rotorSpeed/(45.5*Math.PI))) + 0.75f;
+				float efficiency = rotorEfficiencyCurve.get(rotorSpeed);
 				if(rotorSpeed < 500) {
 					efficiency = Math.min(0.5f, efficiency);
 				}
@@ -572,39 +680,28 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 			}
 		}
 		
-		int energyAvailable = (int)getEnergyStored();
-		int energyRemaining = energyAvailable;
-		if(energyStored > 0 && attachedPowerTaps.size() > 0) {
-			// First, try to distribute fairly
-			int splitEnergy = energyRemaining / attachedPowerTaps.size();
-			for(TileEntityTurbinePowerTap powerTap : attachedPowerTaps) {
-				if(energyRemaining <= 0) { break; }
-				if(powerTap == null || !powerTap.isConnected()) { continue; }
-
-				energyRemaining -= splitEnergy - powerTap.onProvidePower(splitEnergy);
-			}
-
-			// Next, just hose out whatever we can, if we have any left
-			if(energyRemaining > 0) {
-				for(TileEntityTurbinePowerTap powerTap : attachedPowerTaps) {
-					if(energyRemaining <= 0) { break; }
-					if(powerTap == null || !powerTap.isConnected()) { continue; }
-
-					energyRemaining = powerTap.onProvidePower(energyRemaining);
-				}
+		if(profiler != null) { t = profiler.lap(PHASE_ROTOR, t); }
+		
+		int energyAvailable = energyBuffer.getEnergyStoredInt();
+		if(energyAvailable > 0) {
+			int energyUsed = powerDistributor.distribute(energyAvailable);
+			if(energyUsed > 0) {
+				reduceStoredEnergy(energyUsed);
 			}
 		}
+		if(profiler != null) { t = profiler.lap(PHASE_POWER, t); }
 		
-		if(energyAvailable != energyRemaining) {
-			reduceStoredEnergy((energyAvailable - energyRemaining));
+		if(MultiblockTickBudget.shouldDefer(MultiblockTickBudget.TICKABLES, ticksTickablesDeferred)) {
+			ticksTickablesDeferred++;
 		}
-		
-		for(ITickableMultiblockPart part : attachedTickables) {
-			part.onMultiblockServerTick();
+		else {
+			ticksTickablesDeferred = 0;
+			tickScheduler.tick();
 		}
+		if(profiler != null) { t = profiler.lap(PHASE_TICKABLES, t); }
 		
 		ticksSinceLastUpdate++;
-		if(ticksSinceLastUpdate >= ticksBetweenUpdates) {
+		if(ticksSinceLastUpdate >= ticksBetweenUpdates && !MultiblockTickBudget.shouldDefer(MultiblockTickBudget.PACKETS, ticksSinceLastUpdate - ticksBetweenUpdates)) {
 			sendTickUpdate();
 			ticksSinceLastUpdate = 0;
 		}
@@ -613,6 +710,12 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 			markReferenceCoordDirty();
 		}
 
+		if(profiler != null) {
+			profiler.lap(PHASE_PACKETS, t);
+			profiler.endTick();
+		}
+
+		MultiblockTickBudget.end(budgetStart);
 		return energyGeneratedLastTick > 0 || fluidConsumedLastTick > 0;
 	}
 
@@ -625,7 +728,7 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		data.setTag("inputTank", tanks[TANK_INPUT].writeToNBT(new NBTTagCompound()));
 		data.setTag("outputTank", tanks[TANK_OUTPUT].writeToNBT(new NBTTagCompound()));
 		data.setBoolean("active", active);
-		data.setFloat("energy", energyStored);
+		data.setTag("energyBuffer", energyBuffer.writeToNBT(new NBTTagCompound()));
 		data.setInteger("ventStatus", ventStatus.ordinal());
 		data.setFloat("rotorEnergy", rotorEnergy);
 		data.setInteger("maxIntakeRate", maxIntakeRate);
@@ -646,7 +749,11 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 			setActive(data.getBoolean("active"));
 		}
 		
-		if(data.hasKey("energy")) {
+		if(data.hasKey("energyBuffer")) {
+			energyBuffer.readFromNBT(data.getCompoundTag("energyBuffer"));
+		}
+		else if(data.hasKey("energy")) {
+			// Saved before energy was stored as fixed point
 			setEnergyStored(data.getFloat("energy"));
 		}
 		
@@ -720,7 +827,7 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		buf.writeInt(maxIntakeRate);
 
 		// Basic stats
-		buf.writeFloat(energyStored);
+		energyBuffer.serialize(buf);
 		buf.writeFloat(rotorEnergy);
 
 		// Reportage statistics
@@ -747,7 +854,7 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		setMaxIntakeRate(buf.readInt());
 		
 		// Basic data
-		setEnergyStored(buf.readFloat());
+		energyBuffer.deserialize(buf);
 		setRotorEnergy(buf.readFloat());
 		
 		// Reportage
@@ -857,10 +964,10 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 
 	@Override
 	public int extractEnergy(ForgeDirection from, int maxExtract, boolean simulate) {
-		int energyExtracted = Math.min((int)energyStored, maxExtract);
+		int energyExtracted = (int)Math.min(energyBuffer.getEnergyStoredRF(), maxExtract);
 		
 		if(!simulate) {
-			energyStored -= energyExtracted;
+			energyBuffer.removeEnergy(energyExtracted);
 		}
 		
 		return energyExtracted;
@@ -873,23 +980,34 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 
 	@Override
 	public int getEnergyStored(ForgeDirection from) {
-		return (int)energyStored;
+		return energyBuffer.getEnergyStoredInt();
 	}
 
 	@Override
 	public int getMaxEnergyStored(ForgeDirection from) {
-		return (int)maxEnergyStored;
+		return energyBuffer.getCapacityInt();
 	}
 
-	private void setEnergyStored(float newEnergy) {
-		if(Float.isInfinite(newEnergy) || Float.isNaN(newEnergy)) { return; }
+	private void setEnergyStored(double newEnergy) {
+		if(Double.isInfinite(newEnergy) || Double.isNaN(newEnergy)) { return; }
 
-		energyStored = Math.max(0f, Math.min(maxEnergyStored, newEnergy));
+		energyBuffer.setEnergyStored(newEnergy);
 	}
 	
 	// Energy Helpers
-	public float getEnergyStored() {
-		return energyStored;
+	public double getEnergyStored() {
+		return energyBuffer.getEnergyStored();
+	}
+
+	/**
+	 * @return Whole RF stored, which may be more than an int can hold
+	 */
+	public long getEnergyStoredRF() {
+		return energyBuffer.getEnergyStoredRF();
+	}
+
+	public long getEnergyCapacity() {
+		return energyBuffer.getCapacity();
 	}
 	
 	/**
@@ -901,32 +1019,26 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		addStoredEnergy(-1f * energy);
 	}
 
+	/**
+	 * Remove whole RF from the internal storage buffer, without any float rounding.
+	 * Will not reduce the buffer below 0.
+	 * @param energy Amount by which the buffer should be reduced.
+	 */
+	protected void reduceStoredEnergy(long energy) {
+		energyBuffer.removeEnergy(energy);
+	}
+
 	/**
 	 * Add some energy to the internal storage buffer.
 	 * Will not increase the buffer above the maximum or reduce it below 0.
 	 * @param newEnergy
 	 */
 	protected void addStoredEnergy(float newEnergy) {
-		if(Float.isNaN(newEnergy)) { return; }
-
-		energyStored += newEnergy;
-		if(energyStored > maxEnergyStored) {
-			energyStored = maxEnergyStored;
-		}
-		if(-0.00001f < energyStored && energyStored < 0.00001f) {
-			// Clamp to zero
-			energyStored = 0f;
-		}
+		energyBuffer.addEnergy(newEnergy);
 	}
 
-	public void setStoredEnergy(float oldEnergy) {
-		energyStored = oldEnergy;
-		if(energyStored < 0.0 || Float.isNaN(energyStored)) {
-			energyStored = 0.0f;
-		}
-		else if(energyStored > maxEnergyStored) {
-			energyStored = maxEnergyStored;
-		}
+	public void setStoredEnergy(double oldEnergy) {
+		energyBuffer.setEnergyStored(oldEnergy);
 	}
 	
 	/**
@@ -1002,7 +1114,7 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		return true;
 	}
 
-	private CoilPartData getCoilPartData(int x, int y, int z, Block block, int metadata) {
+	private static CoilPartData getCoilPartData(int x, int y, int z, Block block, int metadata) {
 		// Allow vanilla iron and gold blocks
 		if(block == Blocks.iron_block) { return TurbineCoil.getBlockData("blockIron"); }
 		if(block == Blocks.gold_block) { return TurbineCoil.getBlockData("blockGold"); }
@@ -1010,10 +1122,65 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		if(block == BigReactors.blockMetal && metadata == BlockBRMetal.METADATA_LUDICRITE) { return TurbineCoil.getBlockData("blockLudicrite"); }
 		
 		// Check the oredict to see if it's copper, or a funky kind of gold/iron block
-		String oreName = ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata));
-		return TurbineCoil.getBlockData(oreName);
+		return TurbineCoil.getBlockData(block, metadata);
 	}
 	
+	/**
+	 * Sums up the rotor and coils while scanning the interior. Air is never visited.
+	 * Coils are usually all the same block, so the last coil lookup is remembered.
+	 */
+	public static class InteriorStatistics implements ChunkSectionScanner.IBlockVisitor {
+		private final BlockTurbineRotorPart rotorPart;
+		private final int rotorPartId;
+		private int lastBlockId = -1;
+		private int lastMetadata = -1;
+		private CoilPartData lastCoilData = null;
+
+		int rotorMass = 0;
+		int bladeSurfaceArea = 0;
+		int coilSize = 0;
+		float coilEfficiency = 0f;
+		float coilBonus = 0f;
+		float coilDragCoefficient = 0f;
+
+		/**
+		 * @param rotorPart The rotor part block, normally BigReactors.blockTurbineRotorPart
+		 * @param rotorPartId The rotor part block's ID
+		 */
+		public InteriorStatistics(BlockTurbineRotorPart rotorPart, int rotorPartId) {
+			this.rotorPart = rotorPart;
+			this.rotorPartId = rotorPartId;
+		}
+
+		public int getRotorMass() { return rotorMass; }
+		public int getBladeSurfaceArea() { return bladeSurfaceArea; }
+		public int getCoilSize() { return coilSize; }
+
+		@Override
+		public void visitBlock(int x, int y, int z, int blockId, int metadata) {
+			if(blockId == rotorPartId) {
+				rotorMass += rotorPart.getRotorMass(rotorPart, metadata);
+				if(BlockTurbineRotorPart.isRotorBlade(metadata)) {
+					bladeSurfaceArea += 1;
+				}
+				return;
+			}
+
+			if(blockId != lastBlockId || metadata != lastMetadata) {
+				lastBlockId = blockId;
+				lastMetadata = metadata;
+				lastCoilData = getCoilPartData(x, y, z, Block.getBlockById(blockId), metadata);
+			}
+
+			if(lastCoilData != null) {
+				coilEfficiency += lastCoilData.efficiency;
+				coilBonus += lastCoilData.bonus;
+				coilDragCoefficient += lastCoilData.energyExtractionRate;
+				coilSize += 1;
+			}
+		}
+	}
+
 	/**
 	 * Recalculate rotor and coil parameters
 	 */
@@ -1024,38 +1191,16 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		minInterior.x++; minInterior.y++; minInterior.z++;
 		maxInterior.x--; maxInterior.y--; maxInterior.z--;
 		
-		rotorMass = 0;
-		bladeSurfaceArea = 0;
-		coilSize = 0;
-		float coilEfficiency = 0f;
-		float coilBonus = 0f;
-		float coilDragCoefficient = 0f;
+		// Scan the interior a chunk section at a time. Calculate mass and blade area of rotor and size of coils
+		InteriorStatistics stats = new InteriorStatistics(BigReactors.blockTurbineRotorPart, Block.getIdFromBlock(BigReactors.blockTurbineRotorPart));
+		ChunkSectionScanner.scan(worldObj, minInterior.x, minInterior.y, minInterior.z, maxInterior.x, maxInterior.y, maxInterior.z, stats);
 
-		// Loop over interior space. Calculate mass and blade area of rotor and size of coils
-		for(int x = minInterior.x; x <= maxInterior.x; x++) {
-			for(int y = minInterior.y; y <= maxInterior.y; y++) {
-				for(int z = minInterior.z; z <= maxInterior.z; z++) {
-					Block block = worldObj.getBlock(x, y, z);
-					int metadata = worldObj.getBlockMetadata(x, y, z);
-					CoilPartData coilData = null;
-
-					if(block == BigReactors.blockTurbineRotorPart) {
-						rotorMass += BigReactors.blockTurbineRotorPart.getRotorMass(block, metadata);
-						if(BlockTurbineRotorPart.isRotorBlade(metadata)) {
-							bladeSurfaceArea += 1;
-						}
-					}
-					
-					coilData = getCoilPartData(x, y, z, block, metadata);
-					if(coilData != null) {
-						coilEfficiency += coilData.efficiency;
-						coilBonus += coilData.bonus;
-						coilDragCoefficient += coilData.energyExtractionRate;
-						coilSize += 1;
-					}
-				} // end z
-			} // end y
-		} // end x loop - looping over interior
+		rotorMass = stats.rotorMass;
+		bladeSurfaceArea = stats.bladeSurfaceArea;
+		coilSize = stats.coilSize;
+		float coilEfficiency = stats.coilEfficiency;
+		float coilBonus = stats.coilBonus;
+		float coilDragCoefficient = stats.coilDragCoefficient;
 		
 		// Precalculate some stuff now that we know how big the rotor and blades are
 		frictionalDrag = rotorMass * rotorDragCoefficient * BigReactors.turbineMassDragMultiplier;
@@ -1159,7 +1304,7 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 		
 		if(isAssembled()) {
 			sb.append("\nActive: ").append(Boolean.toString(getActive()));
-			sb.append("\nStored Energy: ").append(Float.toString(getEnergyStored()));
+			sb.append("\nStored Energy: ").append(Double.toString(getEnergyStored()));
 			sb.append("\nRotor Energy: ").append(Float.toString(rotorEnergy));
 			sb.append("\nRotor Speed: ").append(Float.toString(getRotorSpeed())).append(" rpm");
 			sb.append("\nInductor Engaged: ").append(Boolean.toString(inductorEngaged));
@@ -1185,6 +1330,11 @@ public class MultiblockTurbine extends RectangularMultiblockControllerBase imple
 				}
 				sb.append("\n");
 			}
+
+			String profile = MultiblockProfiler.getReport(this);
+			if(profile != null) {
+				sb.append("\n\nTick Profile:\n").append(profile);
+			}
 		}
 
 		return sb.toString();
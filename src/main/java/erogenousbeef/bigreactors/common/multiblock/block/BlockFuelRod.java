@@ -1,5 +1,6 @@
 package erogenousbeef.bigreactors.common.multiblock.block;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
@@ -65,6 +66,14 @@ public class BlockFuelRod extends BlockContainer {
 	@Override
 	public boolean isOpaqueCube() { return false; }
 
+	@Override
+	public void onNeighborBlockChange(World world, int x, int y, int z, Block neighborBlock) {
+		TileEntity te = world.getTileEntity(x, y, z);
+		if(te instanceof TileEntityReactorFuelRod) {
+			((TileEntityReactorFuelRod)te).onAdjacentBlockChange();
+		}
+	}
+
 	@Override
 	public TileEntity createNewTileEntity(World world, int metadata) {
 		return new TileEntityReactorFuelRod();
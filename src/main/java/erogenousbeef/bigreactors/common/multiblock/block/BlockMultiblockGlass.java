@@ -59,6 +59,17 @@ public class BlockMultiblockGlass extends BlockContainer {
 		}
 	}
 	
+	@Override
+	public void onNeighborBlockChange(World world, int x, int y, int z, Block neighborBlock) {
+		TileEntity te = world.getTileEntity(x, y, z);
+		if(te instanceof TileEntityReactorGlass) {
+			((TileEntityReactorGlass)te).onAdjacentBlockChange();
+		}
+		else if(te instanceof TileEntityTurbinePartGlass) {
+			((TileEntityTurbinePartGlass)te).onAdjacentBlockChange();
+		}
+	}
+	
 	@Override
 	@SideOnly(Side.CLIENT)
 	public void registerBlockIcons(IIconRegister par1IconRegister)
@@ -35,6 +35,7 @@ import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorC
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorControlRod;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorCoolantPort;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorPart;
+import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorPartBase;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorPowerTap;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorRedNetPort;
 import erogenousbeef.bigreactors.utils.StaticUtils;
@@ -222,6 +223,10 @@ public class BlockReactorPart extends BlockContainer implements IRedNetOmniNode,
 		if(te instanceof INeighborUpdatableEntity) {
 			((INeighborUpdatableEntity)te).onNeighborBlockChange(world, x, y, z, neighborBlock);
 		}
+		
+		if(te instanceof TileEntityReactorPartBase) {
+			((TileEntityReactorPartBase)te).onAdjacentBlockChange();
+		}
 	}
 
 	@Override
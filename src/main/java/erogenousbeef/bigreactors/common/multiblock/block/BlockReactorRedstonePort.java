@@ -138,6 +138,7 @@ public class BlockReactorRedstonePort extends BlockContainer implements IRedNetO
     	TileEntity te = world.getTileEntity(x, y, z);
     	if(te instanceof TileEntityReactorRedstonePort) {
     		((TileEntityReactorRedstonePort)te).onNeighborBlockChange(x, y, z, neighborBlock);
+    		((TileEntityReactorRedstonePort)te).onAdjacentBlockChange();
     	}
     }
     
@@ -264,6 +264,10 @@ public class BlockTurbinePart extends BlockContainer implements IPeripheralProvi
 	public void onNeighborBlockChange(World world, int x, int y, int z, Block neighborBlock) {
 		TileEntity te = StaticUtils.TE.getTileEntityUnsafe(world, x, y, z);
 
+		if(te instanceof TileEntityTurbinePartBase) {
+			((TileEntityTurbinePartBase)te).onAdjacentBlockChange();
+		}
+
 		// Signal power taps when their neighbors change, etc.
 		if(te instanceof INeighborUpdatableEntity) {
 			((INeighborUpdatableEntity)te).onNeighborBlockChange(world, x, y, z, neighborBlock);
@@ -70,6 +70,14 @@ public class BlockTurbineRotorPart extends BlockContainer {
 		return _subIcons[0];
 	}
 
+	@Override
+	public void onNeighborBlockChange(World world, int x, int y, int z, Block neighborBlock) {
+		TileEntity te = world.getTileEntity(x, y, z);
+		if(te instanceof TileEntityTurbineRotorPart) {
+			((TileEntityTurbineRotorPart)te).onAdjacentBlockChange();
+		}
+	}
+
 	@Override
 	public TileEntity createNewTileEntity(World world, int metadata) {
 		return new TileEntityTurbineRotorPart();
@@ -0,0 +1,120 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.Arrays;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import erogenousbeef.core.common.CoordTriplet;
+
+/**
+ * A compact description of an assembled multiblock: its bounds, how many of each kind of part
+ * it had, and a hash of every block and metadata value inside its bounds, casing included.
+ *
+ * Taken when a machine assembles, and saved along with it. When the machine's parts come back,
+ * typically because a chunk it spans was reloaded, a matching fingerprint means its blocks are
+ * as they were when it last passed validation, so it can skip validating them again.
+ *
+ * Each block other than air is hashed with its coordinates into a well-mixed 64-bit value, and
+ * those are summed. Changes to the blocks, even related ones such as edits to neighbouring blocks,
+ * change the sum unpredictably, so a changed machine has about a one in 2^64 chance of matching.
+ * Air adds nothing, so the blocks are read a chunk section at a time and empty sections are skipped.
+ *
+ * The bounds and part counts are compared first; the blocks are only hashed if those match.
+ */
+public class AssemblyFingerprint {
+
+	private final int minX, minY, minZ, maxX, maxY, maxZ;
+	private final int[] partCounts;
+	private final long blockHash;
+
+	private AssemblyFingerprint(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int[] partCounts, long blockHash) {
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxY = maxY;
+		this.maxZ = maxZ;
+		this.partCounts = partCounts;
+		this.blockHash = blockHash;
+	}
+
+	/**
+	 * Take the fingerprint of a machine as it is in the world. Reads every chunk section inside its bounds.
+	 * @param min Minimum coordinate of the machine, including its casing
+	 * @param max Maximum coordinate of the machine, including its casing
+	 * @param partCounts Number of each kind of part the machine has, in an order of the machine's choosing
+	 * @return The fingerprint, or null if part of the machine isn't loaded
+	 */
+	public static AssemblyFingerprint capture(World world, CoordTriplet min, CoordTriplet max, int... partCounts) {
+		if(min == null || max == null || !world.checkChunksExist(min.x, min.y, min.z, max.x, max.y, max.z)) { return null; }
+
+		return new AssemblyFingerprint(min.x, min.y, min.z, max.x, max.y, max.z, partCounts.clone(),
+				hashBlocks(world, min.x, min.y, min.z, max.x, max.y, max.z));
+	}
+
+	/**
+	 * Check whether a machine in the world still matches this fingerprint.
+	 * Only reads the world if the bounds and part counts match.
+	 * @param partCounts Number of each kind of part the machine has, in the same order as when captured
+	 */
+	public boolean matches(World world, CoordTriplet min, CoordTriplet max, int... partCounts) {
+		if(min == null || max == null) { return false; }
+		if(min.x != minX || min.y != minY || min.z != minZ || max.x != maxX || max.y != maxY || max.z != maxZ) { return false; }
+		if(!Arrays.equals(this.partCounts, partCounts)) { return false; }
+		if(!world.checkChunksExist(minX, minY, minZ, maxX, maxY, maxZ)) { return false; }
+
+		return hashBlocks(world, minX, minY, minZ, maxX, maxY, maxZ) == blockHash;
+	}
+
+	private static long hashBlocks(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		BlockHasher hasher = new BlockHasher();
+		ChunkSectionScanner.scan(world, minX, minY, minZ, maxX, maxY, maxZ, hasher);
+		return hasher.hash;
+	}
+
+	/**
+	 * Sums a hash of each block's coordinates, ID and metadata.
+	 */
+	private static class BlockHasher implements ChunkSectionScanner.IBlockVisitor {
+		long hash = 0L;
+
+		@Override
+		public void visitBlock(int x, int y, int z, int blockId, int metadata) {
+			// World coordinates fit in 26 bits, and Y in 8
+			long position = ((long)(x & 0x3FFFFFF) << 34) | ((long)(z & 0x3FFFFFF) << 8) | (y & 255);
+			hash += mix(mix(position) ^ (blockId << 4 | metadata));
+		}
+
+		/**
+		 * MurmurHash3's 64-bit finalizer. Every input bit affects every output bit.
+		 */
+		private static long mix(long k) {
+			k ^= k >>> 33;
+			k *= 0xff51afd7ed558ccdL;
+			k ^= k >>> 33;
+			k *= 0xc4ceb9fe1a85ec53L;
+			k ^= k >>> 33;
+			return k;
+		}
+	}
+
+	// Persistence
+
+	/**
+	 * @return The saved fingerprint, or null if there isn't a valid one. Fingerprints saved with an older kind of hash aren't valid.
+	 */
+	public static AssemblyFingerprint readFromNBT(NBTTagCompound data) {
+		int[] bounds = data.getIntArray("bounds");
+		if(bounds.length != 6 || !data.hasKey("blockHash")) { return null; }
+
+		return new AssemblyFingerprint(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5],
+				data.getIntArray("parts"), data.getLong("blockHash"));
+	}
+
+	public NBTTagCompound writeToNBT(NBTTagCompound data) {
+		data.setIntArray("bounds", new int[] { minX, minY, minZ, maxX, maxY, maxZ });
+		data.setIntArray("parts", partCounts);
+		data.setLong("blockHash", blockHash);
+		return data;
+	}
+}
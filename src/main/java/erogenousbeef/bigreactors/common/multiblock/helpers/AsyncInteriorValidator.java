@@ -0,0 +1,239 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RecursiveAction;
+
+import net.minecraft.world.World;
+import erogenousbeef.bigreactors.common.BRLog;
+import erogenousbeef.core.common.CoordTriplet;
+import erogenousbeef.core.multiblock.IMultiblockPart;
+import erogenousbeef.core.multiblock.MultiblockControllerBase;
+import erogenousbeef.core.multiblock.MultiblockRegistry;
+import erogenousbeef.core.multiblock.MultiblockValidationException;
+
+/**
+ * Checks the blocks inside a multiblock on a worker thread, against a snapshot of the world.
+ *
+ * The controller calls validate() from isMachineWhole(). The first call snapshots the interior,
+ * starts checking it on the worker pool and throws, so the machine stays unassembled while it is
+ * being validated. Once the worker is done, the controller is marked dirty, so the multiblock registry
+ * calls isMachineWhole() again on the main thread, and validate() returns or throws the result.
+ *
+ * Validation in flight is cancelled if the machine's bounds change, or when the controller reports
+ * a change to its interior. Results are also thrown away if any snapshotted block changed before they
+ * were picked up, and validation starts over. The last result is reused for as long as the interior
+ * stays unchanged, so re-checks caused by the rest of the machine don't wait on the worker again.
+ *
+ * Only plain blocks are checked here. Multiblock parts inside the machine are left to the main thread.
+ */
+public class AsyncInteriorValidator {
+
+	/**
+	 * Checks one interior block which isn't a multiblock part. Called on a worker thread,
+	 * so it may only read the snapshot and registries which are safe to read from any thread.
+	 */
+	public interface IInteriorBlockChecker {
+		/**
+		 * @param found Coordinates to hand back to the controller once the whole interior is valid
+		 * @throws MultiblockValidationException If the block isn't allowed inside the machine
+		 */
+		void checkInteriorBlock(BlockSnapshot snapshot, int x, int y, int z, List<CoordTriplet> found) throws MultiblockValidationException;
+	}
+
+	private static final String validatingMessage = "Checking the machine's interior...";
+
+	// Validators whose worker finished, waiting for their controller to be marked dirty
+	private static Queue<AsyncInteriorValidator> finished = new ConcurrentLinkedQueue<AsyncInteriorValidator>();
+
+	private MultiblockControllerBase controller;
+	private IInteriorBlockChecker checker;
+	private ValidationTask task;		// In flight, or finished but not yet picked up
+	private ValidationTask lastResult;	// Reused while the interior is unchanged
+
+	public AsyncInteriorValidator(MultiblockControllerBase controller, IInteriorBlockChecker checker) {
+		this.controller = controller;
+		this.checker = checker;
+		task = null;
+		lastResult = null;
+	}
+
+	/**
+	 * Call at the start of each server tick, to re-check machines whose interior has been validated.
+	 */
+	public static void onServerTick() {
+		for(int i = finished.size(); i > 0; i--) {
+			AsyncInteriorValidator validator = finished.poll();
+			if(validator == null) { break; }
+
+			ValidationTask done = validator.task;
+			if(done == null || done.cancelled) { continue; }
+			if(!done.isDone()) {
+				// Still on its way out of the worker
+				finished.add(validator);
+				continue;
+			}
+
+			if(validator.controller.isEmpty()) { continue; }
+			try {
+				MultiblockRegistry.addDirtyController(done.world, validator.controller);
+			}
+			catch(IllegalArgumentException e) {
+				// The world was unloaded while the worker ran
+			}
+		}
+	}
+
+	/**
+	 * @return True if the bounds describe a machine within its size limits, worth validating. Sizes of 0 or less are unbounded.
+	 */
+	public static boolean isWithinSizeLimits(CoordTriplet min, CoordTriplet max, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+		int x = max.x - min.x + 1;
+		int y = max.y - min.y + 1;
+		int z = max.z - min.z + 1;
+		if(x < minX || y < minY || z < minZ) { return false; }
+		if((maxX > 0 && x > maxX) || (maxY > 0 && y > maxY) || (maxZ > 0 && z > maxZ)) { return false; }
+		return true;
+	}
+
+	public boolean isValidating() {
+		return task != null && !task.cancelled;
+	}
+
+	/**
+	 * Call from isMachineWhole() on the server, before checking the rest of the machine.
+	 * @param min Minimum coordinate of the machine, including its casing
+	 * @param max Maximum coordinate of the machine, including its casing
+	 * @param parts The machine's parts, which are skipped
+	 * @return Whatever the checker found, once the whole interior is known to be valid
+	 * @throws MultiblockValidationException If the interior is invalid, or is still being checked
+	 */
+	public List<CoordTriplet> validate(World world, CoordTriplet min, CoordTriplet max, Collection<IMultiblockPart> parts) throws MultiblockValidationException {
+		if(task != null) {
+			if(!task.covers(min, max)) {
+				reset();
+			}
+			else if(!task.isDone()) {
+				throw new MultiblockValidationException(validatingMessage);
+			}
+			else {
+				lastResult = task;
+				task = null;
+			}
+		}
+
+		if(lastResult != null && lastResult.covers(min, max) && lastResult.snapshot.isCurrent(world)) {
+			if(lastResult.failure != null) { throw lastResult.failure; }
+			return lastResult.found;
+		}
+
+		// Nothing usable; start over
+		lastResult = null;
+		task = new ValidationTask(world, min, max, parts);
+		MultiblockWorkerPool.execute(task);
+		throw new MultiblockValidationException(validatingMessage);
+	}
+
+	/**
+	 * Call when a block inside the machine may have changed. Restarts any validation in flight.
+	 */
+	public void onInteriorChanged() {
+		if(task == null || task.cancelled) { return; }
+
+		World world = task.world;
+		reset();
+		if(!controller.isEmpty()) {
+			MultiblockRegistry.addDirtyController(world, controller);
+		}
+	}
+
+	/**
+	 * Stop any validation in flight and forget the last result.
+	 * Call once the machine has assembled, as the last result is no longer needed.
+	 */
+	public void reset() {
+		if(task != null) {
+			task.cancelled = true;
+			task = null;
+		}
+		lastResult = null;
+	}
+
+	private class ValidationTask extends RecursiveAction {
+		final World world;
+		final CoordTriplet min, max; // Including the casing
+		final BlockSnapshot snapshot;
+		final BitSet partCells;
+		volatile boolean cancelled;
+
+		// Results
+		final List<CoordTriplet> found;
+		MultiblockValidationException failure;
+
+		// Interior bounds
+		private final int minX, minY, minZ, sizeX, sizeY, sizeZ;
+
+		ValidationTask(World world, CoordTriplet min, CoordTriplet max, Collection<IMultiblockPart> parts) {
+			this.world = world;
+			this.min = min.copy();
+			this.max = max.copy();
+			cancelled = false;
+			found = new ArrayList<CoordTriplet>();
+			failure = null;
+
+			minX = min.x + 1;
+			minY = min.y + 1;
+			minZ = min.z + 1;
+			sizeX = Math.max(0, max.x - min.x - 1);
+			sizeY = Math.max(0, max.y - min.y - 1);
+			sizeZ = Math.max(0, max.z - min.z - 1);
+
+			snapshot = BlockSnapshot.capture(world, minX, minY, minZ, max.x - 1, max.y - 1, max.z - 1);
+
+			partCells = new BitSet(sizeX * sizeY * sizeZ);
+			for(IMultiblockPart part : parts) {
+				CoordTriplet coord = part.getWorldLocation();
+				int x = coord.x - minX, y = coord.y - minY, z = coord.z - minZ;
+				if(x >= 0 && x < sizeX && y >= 0 && y < sizeY && z >= 0 && z < sizeZ) {
+					partCells.set((x * sizeY + y) * sizeZ + z);
+				}
+			}
+		}
+
+		boolean covers(CoordTriplet otherMin, CoordTriplet otherMax) {
+			return min.equals(otherMin) && max.equals(otherMax);
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				// Same order as the main thread's checks, so the same problem is reported
+				for(int x = 0; x < sizeX; x++) {
+					if(cancelled) { return; }
+					for(int y = 0; y < sizeY; y++) {
+						for(int z = 0; z < sizeZ; z++) {
+							if(partCells.get((x * sizeY + y) * sizeZ + z)) { continue; }
+							checker.checkInteriorBlock(snapshot, minX + x, minY + y, minZ + z, found);
+						}
+					}
+				}
+			}
+			catch(MultiblockValidationException e) {
+				failure = e;
+			}
+			catch(RuntimeException e) {
+				BRLog.error("Error while checking a multiblock's interior: %s", e);
+				failure = new MultiblockValidationException("Error while checking the machine's interior: " + e.getMessage());
+			}
+			finally {
+				if(!cancelled) {
+					finished.add(AsyncInteriorValidator.this);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * A copy of the blocks in a box of the world, read a chunk section at a time.
+ *
+ * Reading straight from the chunk sections is cheap, so snapshots can be taken on the main thread
+ * and then read from any thread while the world moves on. Only block IDs and metadata are copied;
+ * there are no tile entities. Only the box itself is copied and compared, so changes just outside
+ * it, such as growing crops or a redstone clock beside a machine's casing, don't affect it.
+ * Blocks outside the box read as air.
+ */
+public class BlockSnapshot {
+
+	private final int minX, minY, minZ, maxX, maxY, maxZ;
+	private final int sizeY, sizeZ;
+
+	// Block ID << 4 | metadata, indexed by getIndex()
+	private final int[] blocks;
+
+	private BlockSnapshot(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		this.minX = minX;
+		this.minY = Math.max(0, minY);
+		this.minZ = minZ;
+		this.maxX = maxX;
+		this.maxY = Math.min(255, maxY);
+		this.maxZ = maxZ;
+		sizeY = Math.max(0, this.maxY - this.minY + 1);
+		sizeZ = Math.max(0, maxZ - minZ + 1);
+		blocks = new int[Math.max(0, maxX - minX + 1) * sizeY * sizeZ];
+	}
+
+	/**
+	 * Copy the blocks in a box, bounds inclusive. Call on the main thread.
+	 */
+	public static BlockSnapshot capture(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		BlockSnapshot snapshot = new BlockSnapshot(minX, minY, minZ, maxX, maxY, maxZ);
+		snapshot.read(world, false);
+		return snapshot;
+	}
+
+	/**
+	 * Check whether any block in the box has changed since the snapshot was taken. Call on the main thread.
+	 * @return True if the snapshot still matches the world
+	 */
+	public boolean isCurrent(World world) {
+		return read(world, true);
+	}
+
+	public Block getBlock(int x, int y, int z) {
+		int idx = getIndex(x, y, z);
+		if(idx < 0) { return Blocks.air; }
+		return Block.getBlockById(blocks[idx] >> 4);
+	}
+
+	public int getBlockMetadata(int x, int y, int z) {
+		int idx = getIndex(x, y, z);
+		if(idx < 0) { return 0; }
+		return blocks[idx] & 15;
+	}
+
+	/**
+	 * Blocks which decide whether they're air based on the world are judged by their material alone.
+	 */
+	public boolean isAirBlock(int x, int y, int z) {
+		return getBlock(x, y, z).getMaterial() == Material.air;
+	}
+
+	/**
+	 * Walk the box a chunk section at a time, either copying it or comparing it with the copy.
+	 * @return False as soon as a block differs, when comparing
+	 */
+	private boolean read(World world, boolean compare) {
+		if(blocks.length <= 0) { return true; }
+
+		for(int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+			int x0 = Math.max(minX, chunkX << 4);
+			int x1 = Math.min(maxX, (chunkX << 4) + 15);
+
+			for(int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+				int z0 = Math.max(minZ, chunkZ << 4);
+				int z1 = Math.min(maxZ, (chunkZ << 4) + 15);
+				ExtendedBlockStorage[] storage = world.getChunkFromChunkCoords(chunkX, chunkZ).getBlockStorageArray();
+
+				for(int section = minY >> 4; section <= maxY >> 4; section++) {
+					int y0 = Math.max(minY, section << 4);
+					int y1 = Math.min(maxY, (section << 4) + 15);
+
+					ExtendedBlockStorage sectionBlocks = storage[section];
+					byte[] lsb = null, msb = null, metadata = null;
+					if(sectionBlocks != null) {
+						NibbleArray msbArray = sectionBlocks.getBlockMSBArray();
+						lsb = sectionBlocks.getBlockLSBArray();
+						msb = msbArray == null ? null : msbArray.data;
+						metadata = sectionBlocks.getMetadataArray().data;
+					}
+
+					for(int x = x0; x <= x1; x++) {
+						for(int y = y0; y <= y1; y++) {
+							for(int z = z0; z <= z1; z++) {
+								int block = 0; // Missing sections are air
+								if(lsb != null) {
+									// Same layout as ExtendedBlockStorage
+									int cell = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+									int id = lsb[cell] & 255;
+									if(msb != null) {
+										id |= getNibble(msb, cell) << 8;
+									}
+									block = id << 4 | getNibble(metadata, cell);
+								}
+
+								int idx = getIndex(x, y, z);
+								if(compare) {
+									if(blocks[idx] != block) { return false; }
+								}
+								else {
+									blocks[idx] = block;
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private int getIndex(int x, int y, int z) {
+		if(x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) { return -1; }
+		return ((x - minX) * sizeY + (y - minY)) * sizeZ + (z - minZ);
+	}
+
+	private static int getNibble(byte[] nibbles, int cell) {
+		return (nibbles[cell >> 1] >> ((cell & 1) << 2)) & 15;
+	}
+}
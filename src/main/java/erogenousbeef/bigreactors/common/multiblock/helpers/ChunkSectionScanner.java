@@ -0,0 +1,81 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.NibbleArray;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * Visits every block in a box of the world by reading chunk sections directly,
+ * instead of looking up the chunk and section again for each World.getBlock() call.
+ * Empty sections and air blocks are skipped without visiting them.
+ *
+ * Reads the live world, so call on the thread which owns it, and only over loaded chunks.
+ */
+public class ChunkSectionScanner {
+
+	public interface IBlockVisitor {
+		/**
+		 * Called for each block in the box which isn't air.
+		 * @param blockId The block's ID; see Block.getBlockById()
+		 */
+		void visitBlock(int x, int y, int z, int blockId, int metadata);
+	}
+
+	/**
+	 * Visit every block other than air in a box, bounds inclusive.
+	 */
+	public static void scan(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, IBlockVisitor visitor) {
+		for(int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+			int x0 = Math.max(minX, chunkX << 4);
+			int x1 = Math.min(maxX, (chunkX << 4) + 15);
+
+			for(int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+				int z0 = Math.max(minZ, chunkZ << 4);
+				int z1 = Math.min(maxZ, (chunkZ << 4) + 15);
+				scanColumn(world.getChunkFromChunkCoords(chunkX, chunkZ).getBlockStorageArray(), x0, minY, z0, x1, maxY, z1, visitor);
+			}
+		}
+	}
+
+	/**
+	 * Visit every block other than air in part of a single chunk, bounds inclusive.
+	 * The bounds are world coordinates, and X and Z must lie within the chunk.
+	 * @param storage The chunk's sections, as from Chunk.getBlockStorageArray()
+	 */
+	public static void scanColumn(ExtendedBlockStorage[] storage, int x0, int minY, int z0, int x1, int maxY, int z1, IBlockVisitor visitor) {
+		minY = Math.max(0, minY);
+		maxY = Math.min(255, maxY);
+
+		for(int section = minY >> 4; section <= maxY >> 4; section++) {
+			ExtendedBlockStorage blocks = storage[section];
+			if(blocks == null || blocks.isEmpty()) { continue; }
+
+			int y0 = Math.max(minY, section << 4);
+			int y1 = Math.min(maxY, (section << 4) + 15);
+			byte[] lsb = blocks.getBlockLSBArray();
+			NibbleArray msbArray = blocks.getBlockMSBArray();
+			byte[] msb = msbArray == null ? null : msbArray.data;
+			byte[] metadata = blocks.getMetadataArray().data;
+
+			for(int y = y0; y <= y1; y++) {
+				for(int z = z0; z <= z1; z++) {
+					for(int x = x0; x <= x1; x++) {
+						// Same layout as ExtendedBlockStorage
+						int cell = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+						int id = lsb[cell] & 255;
+						if(msb != null) {
+							id |= getNibble(msb, cell) << 8;
+						}
+						if(id == 0) { continue; } // Air
+
+						visitor.visitBlock(x, y, z, id, getNibble(metadata, cell));
+					}
+				}
+			}
+		}
+	}
+
+	private static int getNibble(byte[] nibbles, int cell) {
+		return (nibbles[cell >> 1] >> ((cell & 1) << 2)) & 15;
+	}
+}
@@ -0,0 +1,137 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+import erogenousbeef.bigreactors.common.data.RadiationData;
+
+/**
+ * Remembers what each fuel column contributed to the last full radiation sweep,
+ * so that a column whose inputs haven't meaningfully changed can reuse it.
+ *
+ * A column's contribution depends on its control rod insertion, the intensity of
+ * radiation leaving each of its rods, fuel heat and the reactor's interior. Intensity
+ * and heat are quantized using the configured tolerances; any change to the interior
+ * lattice discards everything. So does moving any control rod, as rays pass through
+ * the fuel rods of other columns, which are moderated by those columns' insertions.
+ *
+ * Fertility is not part of the key. It only affects fuel usage, which is cheap
+ * and recalculated every tick regardless.
+ */
+public class ColumnRadiationCache {
+
+	private static final int NO_ENTRY = Integer.MIN_VALUE;
+
+	private int latticeVersion;
+	private int[] latticeInsertions;	// Every column's insertion, as of the last validate()
+
+	// Per column, indexed by column ID
+	private int[] insertions;
+	private int[] intensityBuckets;
+	private int[] heatBuckets;
+	private float[] fuelRfChanges;
+	private float[] environmentRfChanges;
+	private float[] fuelAbsorbedRadiations;
+
+	private long hits;
+	private long misses;
+
+	public ColumnRadiationCache() {
+		insertions = new int[0];
+		latticeInsertions = new int[0];
+		intensityBuckets = new int[0];
+		heatBuckets = new int[0];
+		fuelRfChanges = new float[0];
+		environmentRfChanges = new float[0];
+		fuelAbsorbedRadiations = new float[0];
+		hits = misses = 0;
+	}
+
+	/**
+	 * Discard all entries if the lattice, or any column's control rod insertion, has changed since they were stored.
+	 */
+	public void validate(ReactorInteriorLattice lattice) {
+		int numColumns = lattice.getColumnCount();
+		boolean insertionsChanged = false;
+		if(latticeInsertions.length == numColumns) {
+			for(int i = 0; i < numColumns; i++) {
+				int insertion = lattice.getColumnInsertion(i);
+				if(latticeInsertions[i] != insertion) {
+					latticeInsertions[i] = insertion;
+					insertionsChanged = true;
+				}
+			}
+		}
+
+		if(insertions.length != numColumns) {
+			insertions = new int[numColumns];
+			latticeInsertions = new int[numColumns];
+			for(int i = 0; i < numColumns; i++) {
+				latticeInsertions[i] = lattice.getColumnInsertion(i);
+			}
+			intensityBuckets = new int[numColumns];
+			heatBuckets = new int[numColumns];
+			fuelRfChanges = new float[numColumns];
+			environmentRfChanges = new float[numColumns];
+			fuelAbsorbedRadiations = new float[numColumns];
+			clear();
+		}
+		else if(insertionsChanged || latticeVersion != lattice.getVersion()) {
+			clear();
+		}
+
+		latticeVersion = lattice.getVersion();
+	}
+
+	/**
+	 * If the column has an entry matching these inputs, add it to data.
+	 * @param intensity Intensity of radiation leaving each of the column's fuel rods
+	 * @return True if the entry was used, false if the column must be radiated.
+	 */
+	public boolean apply(int column, int insertion, float intensity, float fuelHeat, RadiationData data) {
+		if(insertions[column] != insertion ||
+				intensityBuckets[column] != getIntensityBucket(intensity) ||
+				heatBuckets[column] != getHeatBucket(fuelHeat)) {
+			misses++;
+			return false;
+		}
+
+		hits++;
+		data.fuelRfChange += fuelRfChanges[column];
+		data.environmentRfChange += environmentRfChanges[column];
+		data.fuelAbsorbedRadiation += fuelAbsorbedRadiations[column];
+		return true;
+	}
+
+	/**
+	 * Remember a column's contribution.
+	 */
+	public void store(int column, int insertion, float intensity, float fuelHeat, float fuelRfChange, float environmentRfChange, float fuelAbsorbedRadiation) {
+		insertions[column] = insertion;
+		intensityBuckets[column] = getIntensityBucket(intensity);
+		heatBuckets[column] = getHeatBucket(fuelHeat);
+		fuelRfChanges[column] = fuelRfChange;
+		environmentRfChanges[column] = environmentRfChange;
+		fuelAbsorbedRadiations[column] = fuelAbsorbedRadiation;
+	}
+
+	public long getHits() { return hits; }
+	public long getMisses() { return misses; }
+
+	private void clear() {
+		for(int i = 0; i < insertions.length; i++) {
+			insertions[i] = NO_ENTRY;
+		}
+	}
+
+	// Buckets are logarithmic, so the tolerance is relative to the intensity
+	private static int getIntensityBucket(float intensity) {
+		float tolerance = BigReactors.reactorRadiationCacheTolerance;
+		if(tolerance <= 0f || intensity <= 0f) { return Float.floatToIntBits(intensity); }
+		return (int)Math.floor(Math.log(intensity) / Math.log1p(tolerance));
+	}
+
+	private static int getHeatBucket(float fuelHeat) {
+		float tolerance = BigReactors.reactorRadiationCacheHeatTolerance;
+		if(tolerance <= 0f) { return Float.floatToIntBits(fuelHeat); }
+		return (int)Math.floor(fuelHeat / tolerance);
+	}
+}
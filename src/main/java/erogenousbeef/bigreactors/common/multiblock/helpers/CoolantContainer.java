@@ -109,6 +109,7 @@ public class CoolantContainer extends FluidHelper {
 	 * @return RF remaining after absorption.
 	 */
 	public float onAbsorbHeat(float rfAbsorbed) {
+		fluidVaporizedLastTick = 0;
 		if(getFluidAmount(COLD) <= 0 || rfAbsorbed <= 0) { return rfAbsorbed; }
 
 		Fluid coolantType = getCoolantType();
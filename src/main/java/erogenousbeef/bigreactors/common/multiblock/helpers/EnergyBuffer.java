@@ -0,0 +1,132 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * A multiblock's internal RF storage.
+ *
+ * Energy is held as a 64-bit fixed-point number, with 16 bits after the point,
+ * so fractional RF from physics still accumulates exactly, single RF steps are never
+ * lost however full the buffer is, and capacities can go far beyond what an int can hold.
+ *
+ * RF APIs only deal in ints, so getters for them are clamped to Integer.MAX_VALUE.
+ */
+public class EnergyBuffer {
+
+	private static final int FRACTION_BITS = 16;
+	private static final double ONE = (double)(1L << FRACTION_BITS);
+	private static final long MAX_CAPACITY = 1L << 46; // Leaves headroom in the fixed-point value
+
+	private long stored;	// Fixed point
+	private long capacity;	// Whole RF
+
+	public EnergyBuffer(long capacity) {
+		this.stored = 0;
+		this.capacity = Math.max(0, Math.min(MAX_CAPACITY, capacity));
+	}
+
+	public long getCapacity() { return capacity; }
+
+	public void setCapacity(long newCapacity) {
+		capacity = Math.max(0, Math.min(MAX_CAPACITY, newCapacity));
+		clamp();
+	}
+
+	/**
+	 * @return Energy stored, including fractional RF
+	 */
+	public double getEnergyStored() {
+		return (double)stored / ONE;
+	}
+
+	/**
+	 * @return Whole RF stored
+	 */
+	public long getEnergyStoredRF() {
+		return stored >> FRACTION_BITS;
+	}
+
+	/**
+	 * @return Whole RF stored, clamped so it can be passed to RF APIs
+	 */
+	public int getEnergyStoredInt() {
+		return (int)Math.min(Integer.MAX_VALUE, getEnergyStoredRF());
+	}
+
+	public int getCapacityInt() {
+		return (int)Math.min(Integer.MAX_VALUE, capacity);
+	}
+
+	/**
+	 * @return How full the buffer is, 0-1
+	 */
+	public float getFillFraction() {
+		if(capacity <= 0) { return 0f; }
+		return (float)(getEnergyStored() / (double)capacity);
+	}
+
+	public void setEnergyStored(double energy) {
+		if(Double.isNaN(energy) || energy < 0.0) {
+			stored = 0;
+		}
+		else {
+			stored = toFixed(Math.min(energy, (double)capacity));
+		}
+		clamp();
+	}
+
+	/**
+	 * Add energy, discarding anything over capacity. Negative amounts remove energy, down to 0.
+	 */
+	public void addEnergy(double energy) {
+		if(Double.isNaN(energy)) { return; }
+
+		double maxChange = (double)capacity;
+		stored += toFixed(Math.max(-maxChange, Math.min(maxChange, energy)));
+		clamp();
+	}
+
+	/**
+	 * Remove whole RF, down to 0.
+	 */
+	public void removeEnergy(long rf) {
+		stored -= Math.min(rf, capacity) << FRACTION_BITS;
+		clamp();
+	}
+
+	private void clamp() {
+		if(stored < 0) { stored = 0; }
+		else if(stored > (capacity << FRACTION_BITS)) { stored = capacity << FRACTION_BITS; }
+	}
+
+	private static long toFixed(double energy) {
+		return Math.round(energy * ONE);
+	}
+
+	// Save/Load
+	public NBTTagCompound writeToNBT(NBTTagCompound data) {
+		data.setLong("stored", stored);
+		return data;
+	}
+
+	public void readFromNBT(NBTTagCompound data) {
+		if(data.hasKey("stored")) {
+			stored = data.getLong("stored");
+			clamp();
+		}
+	}
+
+	// Network
+	public void serialize(ByteBuf buffer) {
+		buffer.writeLong(stored);
+		buffer.writeLong(capacity);
+	}
+
+	public void deserialize(ByteBuf buffer) {
+		long newStored = buffer.readLong();
+		setCapacity(buffer.readLong());
+		stored = newStored;
+		clamp();
+	}
+}
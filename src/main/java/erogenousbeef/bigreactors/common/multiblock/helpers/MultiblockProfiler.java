@@ -0,0 +1,159 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import erogenousbeef.core.common.CoordTriplet;
+import erogenousbeef.core.multiblock.MultiblockControllerBase;
+
+/**
+ * Times each phase of a multiblock's server tick.
+ *
+ * Keeps the nanoseconds spent in each phase over the last WINDOW_SIZE ticks in a ring buffer,
+ * from which a mean, 99th percentile and maximum are reported.
+ *
+ * Profiling is switched on and off for every multiblock at once. While it is off, forMultiblock()
+ * returns null and multiblocks skip all of their timing calls, so the only cost is that check.
+ * Profilers are held weakly, so unloaded multiblocks drop out of reports on their own.
+ */
+public class MultiblockProfiler {
+
+	private static final int WINDOW_SIZE = 200; // 10 seconds
+
+	private static boolean enabled = false;
+	private static Map<MultiblockControllerBase, MultiblockProfiler> profilers = new WeakHashMap<MultiblockControllerBase, MultiblockProfiler>();
+
+	private String[] phaseNames;
+	private long[][] samples; // [phase][tick]
+	private long[] currentTick;
+	private int current;
+	private int count;
+
+	private MultiblockProfiler(String[] phaseNames) {
+		this.phaseNames = phaseNames;
+		samples = new long[phaseNames.length][WINDOW_SIZE];
+		currentTick = new long[phaseNames.length];
+		current = 0;
+		count = 0;
+	}
+
+	public static boolean isEnabled() { return enabled; }
+
+	/**
+	 * Start or stop profiling. Stopping discards everything recorded so far.
+	 */
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+		if(!enabled) {
+			profilers.clear();
+		}
+	}
+
+	/**
+	 * Discard everything recorded so far, but keep profiling.
+	 */
+	public static void reset() {
+		profilers.clear();
+	}
+
+	/**
+	 * Call once per tick, before timing anything.
+	 * @param controller The multiblock being profiled
+	 * @param phaseNames Names of its tick phases, which the phase indices passed to lap() refer to
+	 * @return The multiblock's profiler, or null if profiling is off
+	 */
+	public static MultiblockProfiler forMultiblock(MultiblockControllerBase controller, String[] phaseNames) {
+		if(!enabled) { return null; }
+
+		MultiblockProfiler profiler = profilers.get(controller);
+		if(profiler == null) {
+			profiler = new MultiblockProfiler(phaseNames);
+			profilers.put(controller, profiler);
+		}
+		return profiler;
+	}
+
+	/**
+	 * @return A report on one multiblock, or null if it isn't being profiled
+	 */
+	public static String getReport(MultiblockControllerBase controller) {
+		MultiblockProfiler profiler = enabled ? profilers.get(controller) : null;
+		return profiler != null ? profiler.getReport() : null;
+	}
+
+	/**
+	 * @return Reports on every profiled multiblock, one line per phase, each under a line naming the multiblock
+	 */
+	public static List<String> getAllReports() {
+		List<String> lines = new ArrayList<String>();
+		for(Map.Entry<MultiblockControllerBase, MultiblockProfiler> entry : profilers.entrySet()) {
+			MultiblockControllerBase controller = entry.getKey();
+			if(controller == null) { continue; }
+
+			CoordTriplet coord = controller.getReferenceCoord();
+			String where = coord != null ? String.format("%d, %d, %d", coord.x, coord.y, coord.z) : "unknown";
+			lines.add(String.format("%s at %s:", controller.getClass().getSimpleName(), where));
+			lines.addAll(Arrays.asList(entry.getValue().getReport().split("\n")));
+		}
+		return lines;
+	}
+
+	public long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Charge the time since a previous start() or lap() to a phase.
+	 * A phase may be charged several times in one tick.
+	 * @return The current time, to pass to the next lap()
+	 */
+	public long lap(int phase, long since) {
+		long now = System.nanoTime();
+		currentTick[phase] += now - since;
+		return now;
+	}
+
+	/**
+	 * Call once per tick, after timing everything, to record the tick's times.
+	 */
+	public void endTick() {
+		for(int phase = 0; phase < phaseNames.length; phase++) {
+			samples[phase][current] = currentTick[phase];
+			currentTick[phase] = 0;
+		}
+
+		current = (current + 1) % WINDOW_SIZE;
+		if(count < WINDOW_SIZE) { count++; }
+	}
+
+	public String getReport() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Phase times over %d ticks, mean/p99/max in us:", count));
+		if(count <= 0) { return sb.toString(); }
+
+		long[] sorted = new long[count];
+		long totalMean = 0;
+		for(int phase = 0; phase < phaseNames.length; phase++) {
+			System.arraycopy(samples[phase], 0, sorted, 0, count);
+			Arrays.sort(sorted);
+
+			long sum = 0;
+			for(int i = 0; i < count; i++) {
+				sum += sorted[i];
+			}
+
+			long mean = sum / count;
+			long p99 = sorted[Math.min(count - 1, (int)Math.ceil(count * 0.99) - 1)];
+			long max = sorted[count - 1];
+			totalMean += mean;
+
+			sb.append(String.format("\n%s: %.1f / %.1f / %.1f", phaseNames[phase], mean / 1000.0, p99 / 1000.0, max / 1000.0));
+		}
+
+		sb.append(String.format("\nTotal mean: %.1f", totalMean / 1000.0));
+		return sb.toString();
+	}
+}
@@ -0,0 +1,129 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+
+/**
+ * Caps the time all Big Reactors multiblocks may spend in updateServer() on each server tick.
+ *
+ * Multiblocks report how long each of their updates took. Once the tick's budget is used up,
+ * later multiblocks put off low-priority work until a tick with time to spare. Every kind of
+ * deferrable work catches up by itself when it next runs, so nothing is lost, only delayed:
+ * update packets carry the latest state, tickable parts resume where they left off, and a
+ * late physics step covers every tick since the last one.
+ *
+ * How much is deferred escalates while ticks keep running over budget, and backs off once
+ * they don't, in this order: GUI update packets, then redstone/RedNet and other tickable parts,
+ * then physics steps. No work is put off for more than MAX_DEFERRED_TICKS ticks in a row.
+ */
+public class MultiblockTickBudget {
+
+	// Deferrable work, lowest priority first
+	public static final int PACKETS = 1;
+	public static final int TICKABLES = 2;
+	public static final int PHYSICS = 3;
+
+	public static final int MAX_DEFERRED_TICKS = 20;
+
+	private static int level = 0; // Highest kind of work currently being deferred
+	private static long spentThisTick = 0;
+
+	// Metrics
+	private static long ticksMeasured = 0;
+	private static long ticksOverBudget = 0;
+	private static long totalNanos = 0;
+	private static long lastTickNanos = 0;
+	private static long peakTickNanos = 0;
+	private static long[] deferrals = new long[PHYSICS + 1];
+
+	public static boolean isEnabled() { return BigReactors.multiblockTickBudgetMicros > 0; }
+
+	private static long getBudgetNanos() {
+		return BigReactors.multiblockTickBudgetMicros * 1000L;
+	}
+
+	/**
+	 * Call at the start of each server tick, before any multiblocks update.
+	 */
+	public static void startServerTick() {
+		if(!isEnabled()) {
+			level = 0;
+			spentThisTick = 0;
+			return;
+		}
+
+		long budget = getBudgetNanos();
+		if(spentThisTick > budget) {
+			level = Math.min(PHYSICS, level + 1);
+			ticksOverBudget++;
+		}
+		else if(spentThisTick < budget * 3 / 4) {
+			level = Math.max(0, level - 1);
+		}
+
+		if(spentThisTick > 0) {
+			ticksMeasured++;
+			totalNanos += spentThisTick;
+			lastTickNanos = spentThisTick;
+			peakTickNanos = Math.max(peakTickNanos, spentThisTick);
+		}
+
+		spentThisTick = 0;
+	}
+
+	/**
+	 * Call at the start of a multiblock's update.
+	 * @return Value to pass to end()
+	 */
+	public static long begin() {
+		return isEnabled() ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Call at the end of a multiblock's update.
+	 * @param start Value returned by begin()
+	 */
+	public static void end(long start) {
+		if(start == 0L) { return; }
+		spentThisTick += System.nanoTime() - start;
+	}
+
+	/**
+	 * @param work PACKETS, TICKABLES or PHYSICS
+	 * @param ticksAlreadyDeferred How many ticks in a row this work has already been put off
+	 * @return True if the work should be put off until a later tick
+	 */
+	public static boolean shouldDefer(int work, int ticksAlreadyDeferred) {
+		if(level < work || ticksAlreadyDeferred >= MAX_DEFERRED_TICKS) { return false; }
+		if(spentThisTick < getBudgetNanos()) { return false; }
+
+		deferrals[work]++;
+		return true;
+	}
+
+	public static void resetMetrics() {
+		ticksMeasured = 0;
+		ticksOverBudget = 0;
+		totalNanos = 0;
+		lastTickNanos = 0;
+		peakTickNanos = 0;
+		for(int i = 0; i < deferrals.length; i++) {
+			deferrals[i] = 0;
+		}
+	}
+
+	public static String getReport() {
+		StringBuilder sb = new StringBuilder();
+		if(!isEnabled()) {
+			sb.append("Multiblock tick budget: off");
+			return sb.toString();
+		}
+
+		sb.append(String.format("Multiblock tick budget: %.2f ms, deferring up to level %d of %d", getBudgetNanos() / 1000000.0, level, PHYSICS));
+		sb.append(String.format("\nTicks over budget: %d of %d", ticksOverBudget, ticksMeasured));
+		sb.append(String.format("\nTime per tick, mean/last/peak in ms: %.2f / %.2f / %.2f",
+				ticksMeasured > 0 ? totalNanos / (double)ticksMeasured / 1000000.0 : 0.0,
+				lastTickNanos / 1000000.0, peakTickNanos / 1000000.0));
+		sb.append(String.format("\nDeferred packets/tickables/physics steps: %d / %d / %d", deferrals[PACKETS], deferrals[TICKABLES], deferrals[PHYSICS]));
+		return sb.toString();
+	}
+}
@@ -0,0 +1,109 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.Arrays;
+
+import erogenousbeef.core.common.CoordTriplet;
+
+/**
+ * A dense set of coordinates within a multiblock's bounds, one bit per block, in several
+ * independent planes. For example, a turbine keeps its rotor shafts, blades and coils in
+ * separate planes while validating.
+ *
+ * Coordinates are plain ints and anything outside the bounds simply isn't in the set, so
+ * walking the grid needs no bounds checks and no CoordTriplets. The bits are kept between
+ * uses and only reallocated when a larger machine comes along, so a machine which keeps
+ * one grid for validation allocates nothing once it has been validated once.
+ */
+public class MultiblockVoxelGrid {
+
+	private final int planes;
+
+	// Bounds, inclusive
+	private int minX, minY, minZ;
+	private int sizeX, sizeY, sizeZ;
+
+	private int wordsPerPlane;
+	private long[] bits;	// Plane after plane, wordsPerPlane each
+	private int[] counts;	// Number of set bits, per plane
+
+	public MultiblockVoxelGrid(int planes) {
+		this.planes = planes;
+		bits = new long[0];
+		counts = new int[planes];
+		wordsPerPlane = 0;
+	}
+
+	/**
+	 * Empty every plane, and cover a new box.
+	 * @param min Minimum coordinate of the box, inclusive
+	 * @param max Maximum coordinate of the box, inclusive
+	 */
+	public void reset(CoordTriplet min, CoordTriplet max) {
+		minX = min.x;
+		minY = min.y;
+		minZ = min.z;
+		sizeX = Math.max(0, max.x - min.x + 1);
+		sizeY = Math.max(0, max.y - min.y + 1);
+		sizeZ = Math.max(0, max.z - min.z + 1);
+
+		wordsPerPlane = (sizeX * sizeY * sizeZ + 63) >> 6;
+		if(bits.length < wordsPerPlane * planes) {
+			bits = new long[wordsPerPlane * planes];
+		}
+		else {
+			Arrays.fill(bits, 0, wordsPerPlane * planes, 0L);
+		}
+		Arrays.fill(counts, 0);
+	}
+
+	/**
+	 * Add a coordinate to a plane. Coordinates outside the box are ignored.
+	 */
+	public void set(int plane, int x, int y, int z) {
+		int bit = getBit(x, y, z);
+		if(bit < 0) { return; }
+
+		int word = plane * wordsPerPlane + (bit >> 6);
+		long mask = 1L << (bit & 63);
+		if((bits[word] & mask) == 0) {
+			bits[word] |= mask;
+			counts[plane]++;
+		}
+	}
+
+	/**
+	 * Remove a coordinate from a plane.
+	 * @return True if the coordinate was in the plane
+	 */
+	public boolean remove(int plane, int x, int y, int z) {
+		int bit = getBit(x, y, z);
+		if(bit < 0) { return false; }
+
+		int word = plane * wordsPerPlane + (bit >> 6);
+		long mask = 1L << (bit & 63);
+		if((bits[word] & mask) == 0) { return false; }
+
+		bits[word] &= ~mask;
+		counts[plane]--;
+		return true;
+	}
+
+	/**
+	 * @return Number of coordinates in a plane
+	 */
+	public int count(int plane) {
+		return counts[plane];
+	}
+
+	public boolean isEmpty(int plane) {
+		return counts[plane] <= 0;
+	}
+
+	private int getBit(int x, int y, int z) {
+		x -= minX;
+		y -= minY;
+		z -= minZ;
+		if(x < 0 || x >= sizeX || y < 0 || y >= sizeY || z < 0 || z >= sizeZ) { return -1; }
+		return (x * sizeY + y) * sizeZ + z;
+	}
+}
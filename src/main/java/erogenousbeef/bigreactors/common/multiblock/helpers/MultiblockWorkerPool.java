@@ -0,0 +1,38 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import erogenousbeef.bigreactors.common.BRLog;
+import erogenousbeef.bigreactors.common.BigReactors;
+
+/**
+ * Shared worker pool for multiblock physics which can run off the main server thread.
+ * Only created the first time something is submitted to it.
+ *
+ * Tasks submitted here must not touch the world, tile entities' world-facing state
+ * or anything else the main thread may be modifying at the same time.
+ */
+public class MultiblockWorkerPool {
+
+	private static ForkJoinPool pool = null;
+
+	public static void execute(ForkJoinTask<?> task) {
+		getPool().execute(task);
+	}
+
+	private static synchronized ForkJoinPool getPool() {
+		if(pool == null) {
+			int threads = BigReactors.asyncPhysicsThreads;
+			if(threads <= 0) {
+				// Leave a core for the main server thread
+				threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			}
+
+			BRLog.info("Starting multiblock physics worker pool with %d thread(s)", threads);
+			pool = new ForkJoinPool(threads);
+		}
+
+		return pool;
+	}
+}
@@ -0,0 +1,120 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IPowerTap;
+
+/**
+ * Shares a multiblock's stored energy out between its power taps.
+ *
+ * Keeps an array of the taps which currently have an energy connection, which the
+ * multiblock updates as taps are attached, detached or change their connection.
+ * Each tick every tap is asked how much it could take, without transferring anything.
+ * If they want more than is available, each gets a share in proportion to its demand.
+ * Then each tap makes at most one real transfer, of no more than it asked for. The tap
+ * which goes first rotates every tick, so rounding leftovers don't always favour the same one.
+ */
+public class PowerDistributor {
+
+	private IPowerTap[] taps;
+	private int[] demands;
+	private int[] shares;
+	private int numTaps;
+	private int nextFirstTap;
+
+	public PowerDistributor() {
+		taps = new IPowerTap[4];
+		demands = new int[4];
+		shares = new int[4];
+		numTaps = 0;
+		nextFirstTap = 0;
+	}
+
+	/**
+	 * Start or stop sending power to a tap. Safe to call repeatedly.
+	 */
+	public void setConnected(IPowerTap tap, boolean connected) {
+		int idx = indexOf(tap);
+		if(connected && idx < 0) {
+			if(numTaps >= taps.length) {
+				IPowerTap[] newTaps = new IPowerTap[taps.length * 2];
+				System.arraycopy(taps, 0, newTaps, 0, numTaps);
+				taps = newTaps;
+				demands = new int[newTaps.length];
+				shares = new int[newTaps.length];
+			}
+			taps[numTaps++] = tap;
+		}
+		else if(!connected && idx >= 0) {
+			numTaps--;
+			taps[idx] = taps[numTaps];
+			taps[numTaps] = null;
+		}
+	}
+
+	public void clear() {
+		for(int i = 0; i < numTaps; i++) {
+			taps[i] = null;
+		}
+		numTaps = 0;
+	}
+
+	public int getConnectedTapCount() { return numTaps; }
+
+	/**
+	 * Send energy out through the connected taps.
+	 * @param energyAvailable Most RF to send
+	 * @return RF actually accepted by the taps' networks
+	 */
+	public int distribute(int energyAvailable) {
+		if(numTaps <= 0 || energyAvailable <= 0) { return 0; }
+
+		int firstTap = nextFirstTap % numTaps;
+		nextFirstTap = firstTap + 1;
+
+		// Ask first
+		long totalDemand = 0;
+		for(int i = 0; i < numTaps; i++) {
+			demands[i] = Math.max(0, Math.min(energyAvailable, taps[i].getPowerDemand(energyAvailable)));
+			shares[i] = demands[i];
+			totalDemand += demands[i];
+		}
+
+		if(totalDemand <= 0) { return 0; }
+
+		if(totalDemand > energyAvailable) {
+			// Not enough to go around. Share in proportion to demand, rounding down...
+			int allocated = 0;
+			for(int i = 0; i < numTaps; i++) {
+				shares[i] = (int)((long)demands[i] * energyAvailable / totalDemand);
+				allocated += shares[i];
+			}
+
+			// ...then hand out the few RF left over by rounding, starting from this tick's first tap,
+			// only to taps which wanted more than they got
+			int leftover = energyAvailable - allocated;
+			for(int i = 0; i < numTaps && leftover > 0; i++) {
+				int idx = (firstTap + i) % numTaps;
+				if(shares[idx] < demands[idx]) {
+					shares[idx]++;
+					leftover--;
+				}
+			}
+		}
+
+		// One real transfer per tap
+		int energyUsed = 0;
+		for(int i = 0; i < numTaps; i++) {
+			int idx = (firstTap + i) % numTaps;
+			if(shares[idx] <= 0) { continue; }
+			energyUsed += shares[idx] - taps[idx].onProvidePower(shares[idx]);
+		}
+
+		return energyUsed;
+	}
+
+	private int indexOf(IPowerTap tap) {
+		for(int i = 0; i < numTaps; i++) {
+			if(taps[i] == tap) { return i; }
+		}
+		return -1;
+	}
+}
@@ -2,25 +2,17 @@ package erogenousbeef.bigreactors.common.multiblock.helpers;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
-import net.minecraftforge.fluids.IFluidBlock;
-import cofh.lib.util.helpers.ItemHelper;
 import erogenousbeef.bigreactors.api.IHeatEntity;
-import erogenousbeef.bigreactors.api.IRadiationModerator;
 import erogenousbeef.bigreactors.api.data.ReactorInteriorData;
 import erogenousbeef.bigreactors.api.registry.ReactorInterior;
 import erogenousbeef.bigreactors.common.BigReactors;
 import erogenousbeef.bigreactors.common.data.RadiationData;
 import erogenousbeef.bigreactors.common.data.RadiationPacket;
-import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorControlRod;
-import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorFuelRod;
+import erogenousbeef.bigreactors.utils.CurveTable;
 import erogenousbeef.bigreactors.utils.StaticUtils;
-import erogenousbeef.core.common.CoordTriplet;
 
 /**
  * Helper for reactor radiation game logic
@@ -36,27 +28,71 @@ public class RadiationHelper {
 	public static final ReactorInteriorData airData = new ReactorInteriorData(0.1f, 0.25f, 1.1f, IHeatEntity.conductivityAir);
 	public static final ReactorInteriorData waterData = new ReactorInteriorData(0.33f, 0.5f, 1.33f, IHeatEntity.conductivityWater);
 
+	// Heat-response curves, by fuel heat. Both are flat to within float precision well before the end of their tables.
+	public static final CurveTable heatModifierCurve = new CurveTable(0f, 16000f, false) {
+		@Override
+		protected double evaluate(double fuelHeat) {
+			return 1f + (float)(-0.95f*Math.exp(-10f*Math.exp(-0.0012f*fuelHeat)));
+		}
+	};
+
+	public static final CurveTable radiationPenaltyCurve = new CurveTable(0f, 8000f, false) {
+		@Override
+		protected double evaluate(double fuelHeat) {
+			return Math.exp(-15*Math.exp(-0.0025*fuelHeat));
+		}
+	};
+
+	// Fuel absorptiveness by fuel heat, see moderateByFuel()
+	public static final CurveTable fuelAbsorptionCurve = new CurveTable(0f, 8000f, false) {
+		@Override
+		protected double evaluate(double heat) {
+			return 1.0 - (0.95 * Math.exp(-10 * Math.exp(-0.0022 * heat)));
+		}
+	};
+
 	private float fertility;
+	private RadiationTransferSolver transferSolver;
+	private ColumnRadiationCache columnCache;
+	
+	// Reused every tick, so that radiating doesn't allocate
+	private RadiationData scratchData;
+	private RadiationData columnData;
+	private RadiationPacket scratchPacket;
 	
 	public RadiationHelper() {
 		fertility = 1f;
+		transferSolver = new RadiationTransferSolver();
+		columnCache = new ColumnRadiationCache();
+		scratchData = new RadiationData();
+		columnData = new RadiationData();
+		scratchPacket = new RadiationPacket();
 	}
 
-	public RadiationData radiate(World world, FuelContainer fuelContainer, TileEntityReactorFuelRod source, TileEntityReactorControlRod controlRod, float fuelHeat, float environmentHeat, int numControlRods) {
+	/**
+	 * Radiate from a single fuel rod.
+	 * Fuel is passed in by value, rather than as the reactor's FuelContainer, so that this
+	 * can be run off the main thread. The caller is responsible for passing the returned
+	 * fuelUsage on to its FuelContainer.
+	 * @param fuelRod Index of the fuel rod in the lattice
+	 * @param ticks Number of ticks this radiation stands in for; results are scaled by it
+	 * @return The radiation results, or null if there was no fuel or the rod's column has no control rod.
+	 * The returned object is reused by the next call, so don't hold on to it.
+	 */
+	public RadiationData radiate(ReactorInteriorLattice lattice, int fuelAmount, int wasteAmount, float fuelReactivity, int fuelRod, float fuelHeat, float environmentHeat, int numControlRods, int ticks) {
 		// No fuel? No radiation!
-		if(fuelContainer.getFuelAmount() <= 0) { return null; }
+		if(fuelAmount <= 0) { return null; }
 
-		// Determine radiation amount & intensity, heat amount, determine fuel usage
-		RadiationData data = new RadiationData();
-		data.fuelAbsorbedRadiation = 0f;
+		int insertion = lattice.getFuelRodInsertion(fuelRod);
+		if(insertion < 0) { return null; } // No control rod, no radiation
 
-		// Base value for radiation production penalties. 0-1, caps at about 3000C;
-		double radiationPenaltyBase = Math.exp(-15*Math.exp(-0.0025*fuelHeat));
+		// Determine radiation amount & intensity, heat amount, determine fuel usage
+		RadiationData data = scratchData;
+		data.reset();
 
 		// Raw amount - what's actually in the tanks
 		// Effective amount - how 
-		int baseFuelAmount = fuelContainer.getFuelAmount() + (fuelContainer.getWasteAmount() / 100);
-		float fuelReactivity = fuelContainer.getFuelReactivity();
+		int baseFuelAmount = fuelAmount + (wasteAmount / 100);
 		
 		// Intensity = how strong the radiation is, hardness = how energetic the radiation is (penetration)
 		float rawRadIntensity = (float)baseFuelAmount * fissionEventsPerFuelUnit;
@@ -68,16 +104,16 @@ public class RadiationHelper {
 		scaledRadIntensity = (float) Math.pow((scaledRadIntensity/numControlRods), fuelReactivity) * numControlRods;
 
 		// Apply control rod moderation of radiation to the quantity of produced radiation. 100% insertion = 100% reduction.
-		float controlRodModifier = (float)(100-controlRod.getControlRodInsertion()) / 100f;
+		float controlRodModifier = (float)(100-insertion) / 100f;
 		scaledRadIntensity = scaledRadIntensity * controlRodModifier;
 		rawRadIntensity = rawRadIntensity * controlRodModifier;
 
 		// Now nerf actual radiation production based on heat.
-		float effectiveRadIntensity = scaledRadIntensity * (1f + (float)(-0.95f*Math.exp(-10f*Math.exp(-0.0012f*fuelHeat))));
+		float effectiveRadIntensity = scaledRadIntensity * heatModifierCurve.get(fuelHeat);
 
 		// Radiation hardness starts at 20% and asymptotically approaches 100% as heat rises.
 		// This will make radiation harder and harder to capture.
-		float radHardness = 0.2f + (float)(0.8 * radiationPenaltyBase);
+		float radHardness = getRadiationHardness(fuelHeat);
 
 		// Calculate based on propagation-to-self
 		float rawFuelUsage = (fuelPerRadiationUnit * rawRadIntensity / getFertilityModifier()) * BigReactors.fuelUsageMultiplier; // Not a typo. Fuel usage is thus penalized at high heats.
@@ -85,77 +121,226 @@ public class RadiationHelper {
 		data.environmentRfChange = 0f;
 
 		// Propagate radiation to others
-		CoordTriplet originCoord = source.getWorldLocation();
-		CoordTriplet currentCoord = new CoordTriplet(0, 0, 0);
-		
 		effectiveRadIntensity *= 0.25f; // We're going to do this four times, no need to repeat
-		RadiationPacket radPacket = new RadiationPacket();
+		propagate(lattice, data, scratchPacket, fuelHeat, lattice.getFuelRodX(fuelRod), lattice.getFuelRodY(fuelRod), lattice.getFuelRodZ(fuelRod), radHardness, effectiveRadIntensity);
+
+		// Apply changes
+		applyChanges(data, rawFuelUsage, ticks);
+		
+		return data;
+	}
+	
+	/**
+	 * Radiate from every fuel rod in the reactor in a single pass.
+	 * Each rod carries an equal share of the reactor's radiation, so the result is
+	 * the average of what radiate() would produce over one full cycle of fuel rods.
+	 * As with radiate(), the caller passes fuelUsage on to its FuelContainer.
+	 * @param ticks Number of ticks this radiation stands in for; results are scaled by it
+	 * @return The summed radiation results, or null if there was no fuel or no fuel rods.
+	 * The returned object is reused by the next call, so don't hold on to it.
+	 */
+	public RadiationData radiateAll(ReactorInteriorLattice lattice, int fuelAmount, int wasteAmount, float fuelReactivity, float fuelHeat, float environmentHeat, int numControlRods, int ticks) {
+		// No fuel? No radiation!
+		if(fuelAmount <= 0) { return null; }
+
+		int numFuelRods = lattice.getFuelRodCount();
+		if(numFuelRods <= 0) { return null; }
+
+		RadiationData data = scratchData;
+		data.reset();
+
+		// These are identical for every rod; see radiate() for an explanation of each term
+		int baseFuelAmount = fuelAmount + (wasteAmount / 100);
+		float rawRadIntensity = (float)baseFuelAmount * fissionEventsPerFuelUnit;
+		float scaledRadIntensity = (float) Math.pow((rawRadIntensity), fuelReactivity);
+		scaledRadIntensity = (float) Math.pow((scaledRadIntensity/numControlRods), fuelReactivity) * numControlRods;
+		float heatModifier = heatModifierCurve.get(fuelHeat);
+		float radHardness = getRadiationHardness(fuelHeat);
+		float fertilityModifier = getFertilityModifier();
+
+		RadiationPacket radPacket = scratchPacket;
+		float rodShare = 1f / (float)numFuelRods;
+		float totalControlRodModifier = 0f;
+
+		// The solver already avoids re-tracing rays, so there's no point caching its results as well
+		boolean useSolver = BigReactors.reactorUseRadiationSolver;
+		boolean useCache = !useSolver && BigReactors.reactorUseRadiationCache;
+		if(useSolver) {
+			transferSolver.update(lattice, fuelHeat);
+		}
+		else if(useCache) {
+			columnCache.validate(lattice);
+		}
+
+		// Every rod in a column shares its control rod, and so radiates with the same intensity
+		int numColumns = lattice.getColumnCount();
+		for(int column = 0; column < numColumns; column++) {
+			int height = lattice.getColumnHeight(column);
+			if(height <= 0) { continue; }
+
+			int insertion = lattice.getColumnInsertion(column);
+			if(insertion < 0) { continue; } // No control rod, no radiation
+
+			float controlRodModifier = (float)(100-insertion) / 100f * rodShare;
+			totalControlRodModifier += controlRodModifier * height;
+
+			float effectiveRadIntensity = scaledRadIntensity * controlRodModifier * heatModifier;
+			if(useCache && columnCache.apply(column, insertion, effectiveRadIntensity, fuelHeat, data)) {
+				continue;
+			}
+
+			columnData.reset();
+			int firstFuelRod = lattice.getColumnFirstFuelRod(column);
+			for(int i = firstFuelRod; i < firstFuelRod + height; i++) {
+				columnData.fuelRfChange += rfPerRadiationUnit * effectiveRadIntensity;
+
+				if(useSolver) {
+					transferSolver.apply(i, effectiveRadIntensity, columnData);
+				}
+				else {
+					propagate(lattice, columnData, radPacket, fuelHeat, lattice.getFuelRodX(i), lattice.getFuelRodY(i), lattice.getFuelRodZ(i), radHardness, effectiveRadIntensity * 0.25f);
+				}
+			}
+
+			if(useCache) {
+				columnCache.store(column, insertion, effectiveRadIntensity, fuelHeat, columnData.fuelRfChange, columnData.environmentRfChange, columnData.fuelAbsorbedRadiation);
+			}
+
+			data.fuelRfChange += columnData.fuelRfChange;
+			data.environmentRfChange += columnData.environmentRfChange;
+			data.fuelAbsorbedRadiation += columnData.fuelAbsorbedRadiation;
+		}
+
+		float rawFuelUsage = (fuelPerRadiationUnit * rawRadIntensity * totalControlRodModifier / fertilityModifier) * BigReactors.fuelUsageMultiplier;
 
+		// Apply changes
+		applyChanges(data, rawFuelUsage, ticks);
+
+		return data;
+	}
+	
+	/**
+	 * Absorbed radiation feeds fertility; everything is scaled up to cover the given number of ticks.
+	 * Multiplying by 1 is exact, so single-tick results are unchanged.
+	 */
+	private void applyChanges(RadiationData data, float rawFuelUsage, int ticks) {
+		fertility += data.fuelAbsorbedRadiation * ticks;
+		data.fuelAbsorbedRadiation = 0f;
+		data.fuelUsage = rawFuelUsage * ticks;
+		data.fuelRfChange *= ticks;
+		data.environmentRfChange *= ticks;
+	}
+	
+	/**
+	 * Send radiation out from a fuel rod in the four cardinal directions.
+	 */
+	static void propagate(ReactorInteriorLattice lattice, RadiationData data, RadiationPacket radPacket, float fuelHeat, int x, int y, int z, float hardness, float intensity) {
 		for(ForgeDirection dir : StaticUtils.CardinalDirections) {
-			radPacket.hardness = radHardness;
-			radPacket.intensity = effectiveRadIntensity;
+			radPacket.hardness = hardness;
+			radPacket.intensity = intensity;
 			int ttl = 4;
-			currentCoord.copy(originCoord);
+			int currentX = x;
+			int currentZ = z;
 
 			while(ttl > 0 && radPacket.intensity > 0.0001f) {
 				ttl--;
-				currentCoord.translate(dir);
-				performIrradiation(world, data, radPacket, currentCoord.x, currentCoord.y, currentCoord.z);
+				currentX += dir.offsetX;
+				currentZ += dir.offsetZ;
+				performIrradiation(lattice, data, radPacket, fuelHeat, currentX, y, currentZ);
 			}
 		}
-
-		// Apply changes
-		fertility += data.fuelAbsorbedRadiation;
-		data.fuelAbsorbedRadiation = 0f;
-		
-		// Inform fuelContainer
-		fuelContainer.onRadiationUsesFuel(rawFuelUsage);
-		data.fuelUsage = rawFuelUsage;
-		
-		return data;
 	}
 	
-	public void tick(boolean active) {
+	/**
+	 * Decay fertility over a number of ticks.
+	 * Each tick is applied in turn, so the result doesn't depend on how ticks are grouped.
+	 */
+	public void tick(boolean active, int ticks) {
 		float denominator = 20f;
 		if(!active) { denominator *= 200f; } // Much slower decay when off
 		
 		// Fertility decay, at least 0.1 rad/t, otherwise halve it every 10 ticks
-		fertility = Math.max(0f, fertility - Math.max(0.1f, fertility/denominator));
+		for(int i = 0; i < ticks && fertility > 0f; i++) {
+			fertility = Math.max(0f, fertility - Math.max(0.1f, fertility/denominator));
+		}
 	}
 	
-	private void performIrradiation(World world, RadiationData data, RadiationPacket radiation, int x, int y, int z) {
-		TileEntity te = world.getTileEntity(x, y, z);
-		if(te instanceof IRadiationModerator) {
-			((IRadiationModerator)te).moderateRadiation(data, radiation);
+	private static void performIrradiation(ReactorInteriorLattice lattice, RadiationData data, RadiationPacket radiation, float fuelHeat, int x, int y, int z) {
+		short cell = lattice.getCell(x, y, z);
+		if(cell == ReactorInteriorLattice.CELL_CASING) {
+			// Discard all remaining radiation, as the reactor casing does
+			radiation.intensity = 0f;
 		}
-		else if (world.isAirBlock(x, y, z)) {
-			moderateByAir(data, radiation);
+		else if(cell == ReactorInteriorLattice.CELL_FUEL_ROD) {
+			int insertion = lattice.getInsertion(x, z);
+			if(insertion >= 0) {
+				moderateByFuel(data, radiation, fuelHeat, insertion);
+			}
 		}
 		else {
-			Block block = world.getBlock(x, y, z);
-			if(block != null) {
-				
-				if(block instanceof IFluidBlock) {
-					moderateByFluid(data, radiation, ((IFluidBlock)block).getFluid());
-				}
-				else {
-					// Go by block
-					moderateByBlock(data, radiation, block, world.getBlockMetadata(x, y, z));
-				}
-			}
-			else {
-				// Weird-ass problem. Assume it's air.
-				moderateByAir(data, radiation);
-			}
-			// Do it based on fluid?
+			applyModerationFactors(data, radiation, lattice.getModerator(cell));
 		}
 	}
 	
-	private void moderateByAir(RadiationData data, RadiationPacket radiation) {
-		applyModerationFactors(data, radiation, airData);
+	/**
+	 * Moderate radiation passing through a fuel rod.
+	 * @param data Radiation results to which absorbed energy is added
+	 * @param radiation The radiation passing through the fuel rod
+	 * @param heat The reactor's current fuel heat
+	 * @param insertion Insertion of the control rod atop the rod's column, 0-100
+	 */
+	public static void moderateByFuel(RadiationData data, RadiationPacket radiation, float heat, int insertion) {
+		// Scale control rod insertion 0..1
+		float controlRodInsertion = Math.min(1f, Math.max(0f, ((float)insertion)/100f));
+		
+		// Fuel absorptiveness is determined by control rod + a heat modifier.
+		// Starts at 1 and decays towards 0.05, reaching 0.6 at 1000 and just under 0.2 at 2000. Inflection point at about 500-600.
+		// Harder radiation makes absorption more difficult.
+		float baseAbsorption = fuelAbsorptionCurve.get(heat) * (1f - (radiation.hardness / getFuelHardnessDivisor()));
+
+		// Some fuels are better at absorbing radiation than others
+		float scaledAbsorption = Math.min(1f, baseAbsorption * getFuelAbsorptionCoefficient());
+
+		// Control rods increase total neutron absorption, but decrease the total neutrons which fertilize the fuel
+		// Absorb up to 50% better with control rods inserted.
+		float controlRodBonus = (1f - scaledAbsorption) * controlRodInsertion * 0.5f;
+		float controlRodPenalty = scaledAbsorption * controlRodInsertion * 0.5f;
+		
+		float radiationAbsorbed = (scaledAbsorption + controlRodBonus) * radiation.intensity;
+		float fertilityAbsorbed = (scaledAbsorption - controlRodPenalty) * radiation.intensity;
+		
+		float fuelModerationFactor = getFuelModerationFactor();
+		fuelModerationFactor += fuelModerationFactor * controlRodInsertion + controlRodInsertion; // Full insertion doubles the moderation factor of the fuel as well as adding its own level
+		
+		radiation.intensity = Math.max(0f, radiation.intensity - radiationAbsorbed);
+		radiation.hardness /= fuelModerationFactor;
+		
+		// Being irradiated both heats up the fuel and also enhances its fertility
+		data.fuelRfChange += radiationAbsorbed * rfPerRadiationUnit;
+		data.fuelAbsorbedRadiation += fertilityAbsorbed;
+	}
+
+	// 1, upwards. How well does this fuel moderate, but not stop, radiation? Anything under 1.5 is "poor", 2-2.5 is "good", above 4 is "excellent".
+	private static float getFuelModerationFactor() {
+		return 1.5f;
+	}
+
+	// 0..1. How well does this fuel absorb radiation?
+	private static float getFuelAbsorptionCoefficient() {
+		// TODO: Lookup type of fuel and get data from there
+		return 0.5f;
 	}
 	
-	private void moderateByBlock(RadiationData data, RadiationPacket radiation, Block block, int metadata) {
+	// Goes up from 1. How tolerant is this fuel of hard radiation?
+	private static float getFuelHardnessDivisor() {
+		return 1.0f;
+	}
+	
+	/**
+	 * Look up the moderation data for a solid block inside a reactor.
+	 * @return The block's interior data, or the data for air if the block isn't a registered moderator.
+	 */
+	public static ReactorInteriorData getBlockModeratorData(Block block, int metadata) {
 		ReactorInteriorData moderatorData = null;
 
 		if(block == Blocks.iron_block) {
@@ -172,27 +357,31 @@ public class RadiationHelper {
 		}
 		else {
 			// Check the ore dictionary.
-			moderatorData = ReactorInterior.getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata)));
+			moderatorData = ReactorInterior.getBlockData(block, metadata);
 		}
 		
 		if(moderatorData == null) {
 			moderatorData = airData;
 		}
 
-		applyModerationFactors(data, radiation, moderatorData);
+		return moderatorData;
 	}
 	
-	private void moderateByFluid(RadiationData data, RadiationPacket radiation, Fluid fluid) {
-		
-		float absorption, heatEfficiency, moderation;
-
-		ReactorInteriorData moderatorData = ReactorInterior.getFluidData(fluid.getName());
+	/**
+	 * Look up the moderation data for a fluid inside a reactor.
+	 * @return The fluid's interior data, or the data for water if the fluid isn't a registered moderator.
+	 */
+	public static ReactorInteriorData getFluidModeratorData(Fluid fluid) {
+		ReactorInteriorData moderatorData = null;
+		if(fluid != null) {
+			moderatorData = ReactorInterior.getFluidData(fluid);
+		}
 		
 		if(moderatorData == null) {
 			moderatorData = waterData;
 		}
 
-		applyModerationFactors(data, radiation, moderatorData);
+		return moderatorData;
 	}
 	
 	private static void applyModerationFactors(RadiationData data, RadiationPacket radiation, ReactorInteriorData moderatorData) {
@@ -202,6 +391,16 @@ public class RadiationHelper {
 		data.environmentRfChange += moderatorData.heatEfficiency * radiationAbsorbed * rfPerRadiationUnit;
 	}
 	
+	/**
+	 * Radiation hardness starts at 20% and asymptotically approaches 100% as heat rises.
+	 * Base value for radiation production penalties is 0-1, caps at about 3000C.
+	 * @param fuelHeat Current heat of the fuel pool
+	 * @return Hardness of newly-emitted radiation, 0.2-1
+	 */
+	public static float getRadiationHardness(float fuelHeat) {
+		return 0.2f + 0.8f * radiationPenaltyCurve.get(fuelHeat);
+	}
+	
 	// Data Access
 	public float getFertility() { return fertility; }
 
@@ -231,6 +430,15 @@ public class RadiationHelper {
 		}
 	}
 	
+	public String getDebugInfo() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Fertility: ").append(Float.toString(fertility));
+		sb.append("\nSolver Recalculations: ").append(Integer.toString(transferSolver.getRecalculationCount()));
+		sb.append("\nColumn Cache Hits: ").append(Long.toString(columnCache.getHits()));
+		sb.append("\nColumn Cache Misses: ").append(Long.toString(columnCache.getMisses()));
+		return sb.toString();
+	}
+	
 	public NBTTagCompound writeToNBT(NBTTagCompound data) {
 		data.setFloat("fertility", fertility);
 		return data;
@@ -0,0 +1,135 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+import erogenousbeef.bigreactors.common.data.RadiationData;
+import erogenousbeef.bigreactors.common.data.RadiationPacket;
+
+/**
+ * Precomputes how radiation leaving each fuel rod is split between the fuel pool,
+ * the reactor environment and fuel fertility.
+ *
+ * For a given fuel heat and set of control rod insertions, everything a ray does
+ * scales linearly with its starting intensity. So we march one unit-intensity ray
+ * set per fuel rod, remember the results, and each tick simply multiply them by
+ * each rod's actual intensity.
+ *
+ * Coefficients are recomputed when the interior lattice changes, when any control
+ * rod's insertion changes, or when fuel heat moves into a different heat bucket.
+ */
+public class RadiationTransferSolver {
+
+	// Per fuel rod, indexed the same as the lattice's fuel rods
+	private float[] fuelRfCoefficients;
+	private float[] environmentRfCoefficients;
+	private float[] absorbedRadiationCoefficients;
+
+	// Inputs used for the current coefficients
+	private int latticeVersion;
+	private int heatBucket;
+	private int[] columnInsertions;
+	private boolean valid;
+
+	private int recalculations;
+
+	// Scratch state for tracing unit rays
+	private RadiationData unitData;
+	private RadiationPacket radPacket;
+
+	public RadiationTransferSolver() {
+		fuelRfCoefficients = new float[0];
+		environmentRfCoefficients = new float[0];
+		absorbedRadiationCoefficients = new float[0];
+		columnInsertions = new int[0];
+		valid = false;
+		recalculations = 0;
+		unitData = new RadiationData();
+		radPacket = new RadiationPacket();
+	}
+
+	public void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Recompute coefficients, if any of their inputs have changed.
+	 * @param lattice The reactor's interior
+	 * @param fuelHeat The reactor's current fuel heat
+	 */
+	public void update(ReactorInteriorLattice lattice, float fuelHeat) {
+		int newHeatBucket = getHeatBucket(fuelHeat);
+		boolean dirty = !valid || latticeVersion != lattice.getVersion() || heatBucket != newHeatBucket;
+
+		int numColumns = lattice.getColumnCount();
+		if(columnInsertions.length != numColumns) {
+			columnInsertions = new int[numColumns];
+			dirty = true;
+		}
+
+		for(int i = 0; i < numColumns; i++) {
+			int insertion = lattice.getColumnInsertion(i);
+			if(columnInsertions[i] != insertion) {
+				columnInsertions[i] = insertion;
+				dirty = true;
+			}
+		}
+
+		if(!dirty) { return; }
+
+		latticeVersion = lattice.getVersion();
+		heatBucket = newHeatBucket;
+		valid = true;
+		recalculations++;
+
+		// Evaluate in the middle of the heat bucket
+		float bucketSize = getHeatBucketSize();
+		float bucketHeat = bucketSize > 0f ? ((float)heatBucket + 0.5f) * bucketSize : fuelHeat;
+		recalculate(lattice, bucketHeat, RadiationHelper.getRadiationHardness(bucketHeat));
+	}
+
+	/**
+	 * Add the results of radiation leaving one fuel rod.
+	 * @param fuelRod Index of the fuel rod in the lattice
+	 * @param intensity Total intensity of radiation leaving that fuel rod, in all directions
+	 * @param data Results are added to this
+	 */
+	public void apply(int fuelRod, float intensity, RadiationData data) {
+		data.fuelRfChange += intensity * fuelRfCoefficients[fuelRod];
+		data.environmentRfChange += intensity * environmentRfCoefficients[fuelRod];
+		data.fuelAbsorbedRadiation += intensity * absorbedRadiationCoefficients[fuelRod];
+	}
+
+	public int getRecalculationCount() { return recalculations; }
+
+	private void recalculate(ReactorInteriorLattice lattice, float fuelHeat, float radHardness) {
+		int numFuelRods = lattice.getFuelRodCount();
+		if(fuelRfCoefficients.length != numFuelRods) {
+			fuelRfCoefficients = new float[numFuelRods];
+			environmentRfCoefficients = new float[numFuelRods];
+			absorbedRadiationCoefficients = new float[numFuelRods];
+		}
+
+		for(int i = 0; i < numFuelRods; i++) {
+			unitData.reset();
+
+			// One unit of intensity, split four ways
+			RadiationHelper.propagate(lattice, unitData, radPacket, fuelHeat, lattice.getFuelRodX(i), lattice.getFuelRodY(i), lattice.getFuelRodZ(i), radHardness, 0.25f);
+
+			fuelRfCoefficients[i] = unitData.fuelRfChange;
+			environmentRfCoefficients[i] = unitData.environmentRfChange;
+			absorbedRadiationCoefficients[i] = unitData.fuelAbsorbedRadiation;
+		}
+	}
+
+	private static float getHeatBucketSize() {
+		return BigReactors.reactorRadiationSolverHeatBucket;
+	}
+
+	private static int getHeatBucket(float fuelHeat) {
+		float bucketSize = getHeatBucketSize();
+		if(bucketSize <= 0f) {
+			// No bucketing; recompute whenever heat changes at all
+			return Float.floatToIntBits(fuelHeat);
+		}
+		return (int)Math.floor(fuelHeat / bucketSize);
+	}
+}
@@ -0,0 +1,510 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import net.minecraft.block.Block;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.IFluidBlock;
+import erogenousbeef.bigreactors.api.IHeatEntity;
+import erogenousbeef.bigreactors.api.data.ReactorInteriorData;
+import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorControlRod;
+import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorFuelRod;
+import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorPartBase;
+import erogenousbeef.bigreactors.utils.StaticUtils;
+import erogenousbeef.core.common.CoordTriplet;
+
+/**
+ * A cached copy of a reactor's interior, so that radiation does not
+ * have to query the world for every block a ray passes through.
+ *
+ * Each interior cell holds either an index into a small table of
+ * ReactorInteriorData, or one of the special CELL_ values.
+ * Anything outside the interior is treated as reactor casing.
+ *
+ * Also serves as an index of the reactor's fuel columns: each (x, z) column
+ * has an ID, and knows its control rod, its height and which fuel rods it holds.
+ *
+ * Built when the reactor assembles. On the server, individual cells are refreshed
+ * when a neighboring reactor part is told its neighbors changed, and a few
+ * cells are re-checked every tick to catch changes nothing was told about.
+ * Clients only use the column index, which cannot change without reassembly.
+ *
+ * Radiation only reads cells and column insertions, never the world or tile entities,
+ * so a lattice can also be filled in by hand with allocate(), setModerator(), setFuelRod()
+ * and setControlRod(), then finishBuilding(), to model a reactor without a world.
+ * In the world, control rod insertions are copied in by syncControlRods().
+ *
+ * Also keeps track of how well heat flows from the fuel rods into the reactor, which depends on
+ * the cells beside each rod. It is summed up once when building, then adjusted whenever a single
+ * cell changes, by looking only at the fuel rods beside that cell.
+ */
+public class ReactorInteriorLattice {
+
+	public static final short CELL_CASING = -1;		// Reactor casing, or anything outside the interior
+	public static final short CELL_FUEL_ROD = -2;
+
+	// Interior bounds, inclusive minimum
+	private int minX, minY, minZ;
+	private int sizeX, sizeY, sizeZ;
+
+	private short[] cells;
+	private ArrayList<ReactorInteriorData> moderators;
+
+	// Per-column data, indexed by (x, z)
+	private TileEntityReactorControlRod[] columnControlRods;
+	private TileEntityReactorFuelRod[] columnFuelRods;
+	private short[] columnInsertions;	// -1 if the column has no control rod
+	private int[] columnHeights;
+	private int[] columnFirstFuelRod;	// Index of the column's lowest fuel rod; a column's rods are consecutive
+	private int[] controlRodColumns;	// IDs of columns which have a control rod, in column order
+
+	// Fuel rod positions, as parallel arrays, for radiating from every rod in one pass
+	private int fuelRodCount;
+	private int[] fuelRodX, fuelRodY, fuelRodZ;
+	private int[] fuelRodColumn;
+
+	// Sum of the conductivity of every non-fuel-rod cell beside a fuel rod, once per fuel rod
+	private float fuelHeatTransfer;
+
+	private int refreshCursor;
+	private int version;
+
+	public ReactorInteriorLattice() {
+		moderators = new ArrayList<ReactorInteriorData>();
+		clear();
+	}
+
+	public void clear() {
+		minX = minY = minZ = 0;
+		sizeX = sizeY = sizeZ = 0;
+		cells = new short[0];
+		columnControlRods = new TileEntityReactorControlRod[0];
+		columnFuelRods = new TileEntityReactorFuelRod[0];
+		columnInsertions = new short[0];
+		columnHeights = new int[0];
+		columnFirstFuelRod = new int[0];
+		controlRodColumns = new int[0];
+		fuelRodCount = 0;
+		fuelRodX = fuelRodY = fuelRodZ = fuelRodColumn = new int[0];
+		moderators.clear();
+		fuelHeatTransfer = 0f;
+		refreshCursor = 0;
+		version++;
+	}
+
+	/**
+	 * Rebuild the lattice from the world.
+	 * @param world The world containing the reactor
+	 * @param minCoord Minimum coordinate of the reactor, including its casing
+	 * @param maxCoord Maximum coordinate of the reactor, including its casing
+	 */
+	public void build(World world, CoordTriplet minCoord, CoordTriplet maxCoord) {
+		clear();
+		if(world == null || minCoord == null || maxCoord == null) { return; }
+
+		allocate(minCoord.x + 1, minCoord.y + 1, minCoord.z + 1,
+				maxCoord.x - minCoord.x - 1, maxCoord.y - minCoord.y - 1, maxCoord.z - minCoord.z - 1);
+
+		// Control rods sit in the casing, directly above the interior
+		int controlRodY = maxCoord.y;
+		for(int x = 0; x < sizeX; x++) {
+			for(int z = 0; z < sizeZ; z++) {
+				TileEntity te = world.getTileEntity(minX + x, controlRodY, minZ + z);
+				if(te instanceof TileEntityReactorControlRod) {
+					columnControlRods[getColumnIndex(x, z)] = (TileEntityReactorControlRod)te;
+				}
+			}
+		}
+		syncControlRods();
+
+		for(int x = 0; x < sizeX; x++) {
+			for(int y = 0; y < sizeY; y++) {
+				for(int z = 0; z < sizeZ; z++) {
+					cells[getCellIndex(x, y, z)] = classify(world, minX + x, minY + y, minZ + z);
+				}
+			}
+		}
+
+		finishBuilding();
+	}
+
+	/**
+	 * Start building a lattice by hand, without a world. Every cell starts out as air,
+	 * and no column has a control rod.
+	 * @param minX Minimum coordinate of the interior, excluding the casing
+	 * @param sizeX Size of the interior, excluding the casing
+	 */
+	public void allocate(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+		clear();
+
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = Math.max(0, sizeX);
+		this.sizeY = Math.max(0, sizeY);
+		this.sizeZ = Math.max(0, sizeZ);
+
+		cells = new short[this.sizeX * this.sizeY * this.sizeZ];
+		columnControlRods = new TileEntityReactorControlRod[this.sizeX * this.sizeZ];
+		columnFuelRods = new TileEntityReactorFuelRod[this.sizeX * this.sizeZ];
+		columnInsertions = new short[this.sizeX * this.sizeZ];
+		columnHeights = new int[this.sizeX * this.sizeZ];
+		columnFirstFuelRod = new int[this.sizeX * this.sizeZ];
+
+		Arrays.fill(columnInsertions, (short)-1);
+		Arrays.fill(cells, getModeratorIndex(RadiationHelper.airData));
+	}
+
+	/**
+	 * Fill an interior cell with a moderator, when building by hand.
+	 */
+	public void setModerator(int x, int y, int z, ReactorInteriorData data) {
+		if(!isInterior(x, y, z)) { return; }
+		setCell(x - minX, y - minY, z - minZ, getModeratorIndex(data));
+	}
+
+	/**
+	 * Put a fuel rod in an interior cell, when building by hand.
+	 */
+	public void setFuelRod(int x, int y, int z) {
+		if(!isInterior(x, y, z)) { return; }
+		setCell(x - minX, y - minY, z - minZ, CELL_FUEL_ROD);
+	}
+
+	/**
+	 * Set the insertion of the control rod atop a column, when building by hand or afterwards.
+	 * @param insertion 0-100, or -1 to remove the control rod
+	 */
+	public void setControlRod(int x, int z, int insertion) {
+		if(x < minX || x >= minX + sizeX || z < minZ || z >= minZ + sizeZ) { return; }
+		columnInsertions[getColumnIndex(x - minX, z - minZ)] = (short)Math.max(-1, Math.min(100, insertion));
+	}
+
+	/**
+	 * Index the fuel rods and control rods, once all cells are filled in.
+	 * Fuel rods added after this aren't radiated from until the lattice is rebuilt.
+	 */
+	public void finishBuilding() {
+		int numControlRods = 0;
+		for(int column = 0; column < columnInsertions.length; column++) {
+			if(columnInsertions[column] >= 0) { numControlRods++; }
+		}
+
+		controlRodColumns = new int[numControlRods];
+		numControlRods = 0;
+		for(int column = 0; column < columnInsertions.length; column++) {
+			if(columnInsertions[column] >= 0) {
+				controlRodColumns[numControlRods++] = column;
+			}
+		}
+
+		fuelRodCount = 0;
+		for(int column = 0; column < columnHeights.length; column++) {
+			columnHeights[column] = 0;
+		}
+
+		for(int x = 0; x < sizeX; x++) {
+			for(int y = 0; y < sizeY; y++) {
+				for(int z = 0; z < sizeZ; z++) {
+					if(cells[getCellIndex(x, y, z)] == CELL_FUEL_ROD) {
+						fuelRodCount++;
+						columnHeights[getColumnIndex(x, z)]++;
+					}
+				}
+			}
+		}
+
+		fuelRodX = new int[fuelRodCount];
+		fuelRodY = new int[fuelRodCount];
+		fuelRodZ = new int[fuelRodCount];
+		fuelRodColumn = new int[fuelRodCount];
+
+		int i = 0;
+		for(int x = 0; x < sizeX; x++) {
+			for(int z = 0; z < sizeZ; z++) {
+				columnFirstFuelRod[getColumnIndex(x, z)] = i;
+				for(int y = 0; y < sizeY; y++) {
+					if(cells[getCellIndex(x, y, z)] != CELL_FUEL_ROD) { continue; }
+
+					fuelRodX[i] = minX + x;
+					fuelRodY[i] = minY + y;
+					fuelRodZ[i] = minZ + z;
+					fuelRodColumn[i] = getColumnIndex(x, z);
+					i++;
+				}
+			}
+		}
+
+		// From here on, setCell() keeps this up to date
+		fuelHeatTransfer = 0f;
+		for(i = 0; i < fuelRodCount; i++) {
+			fuelHeatTransfer += getFuelRodHeatTransfer(fuelRodX[i] - minX, fuelRodY[i] - minY, fuelRodZ[i] - minZ);
+		}
+
+		version++;
+	}
+
+	/**
+	 * Copy the current insertion of each column's control rod tile entity.
+	 * Call before radiating, so that radiation never has to touch tile entities.
+	 */
+	public void syncControlRods() {
+		for(int column = 0; column < columnControlRods.length; column++) {
+			TileEntityReactorControlRod controlRod = columnControlRods[column];
+			if(controlRod != null) {
+				columnInsertions[column] = controlRod.getControlRodInsertion();
+			}
+		}
+	}
+
+	/**
+	 * Look up the control rod and fuel rod tile entities again, keeping every cell as it is.
+	 * Use when the reactor's tile entities were reloaded, but its blocks are known to be unchanged.
+	 */
+	public void relink(World world) {
+		int controlRodY = minY + sizeY;
+		for(int x = 0; x < sizeX; x++) {
+			for(int z = 0; z < sizeZ; z++) {
+				TileEntity te = world.getTileEntity(minX + x, controlRodY, minZ + z);
+				columnControlRods[getColumnIndex(x, z)] = te instanceof TileEntityReactorControlRod ? (TileEntityReactorControlRod)te : null;
+			}
+		}
+		syncControlRods();
+
+		for(int column = 0; column < columnFuelRods.length; column++) {
+			if(columnHeights[column] <= 0) { continue; }
+
+			int idx = columnFirstFuelRod[column];
+			TileEntity te = world.getTileEntity(fuelRodX[idx], fuelRodY[idx], fuelRodZ[idx]);
+			columnFuelRods[column] = te instanceof TileEntityReactorFuelRod ? (TileEntityReactorFuelRod)te : null;
+		}
+	}
+
+	/**
+	 * Re-read a single cell from the world. Cells outside the interior are ignored.
+	 */
+	public void refreshCell(World world, int x, int y, int z) {
+		if(!isInterior(x, y, z)) { return; }
+		setCell(x - minX, y - minY, z - minZ, classify(world, x, y, z));
+	}
+
+	/**
+	 * Re-read the six cells adjacent to a given coordinate.
+	 */
+	public void refreshNeighbors(World world, int x, int y, int z) {
+		for(ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+			refreshCell(world, x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ);
+		}
+	}
+
+	/**
+	 * Re-read a handful of cells from the world, continuing where the last call left off.
+	 * Interior blocks which are not adjacent to any reactor part never cause a neighbor
+	 * update on the reactor, so this eventually picks up those changes.
+	 * @param world The world containing the reactor
+	 * @param count Maximum number of cells to re-read
+	 */
+	public void refreshIncremental(World world, int count) {
+		if(cells.length <= 0) { return; }
+
+		for(int i = 0; i < count; i++) {
+			if(refreshCursor >= cells.length) { refreshCursor = 0; }
+
+			int idx = refreshCursor++;
+			int y = idx % sizeY;
+			int z = (idx / sizeY) % sizeZ;
+			int x = idx / (sizeY * sizeZ);
+			setCell(x, y, z, classify(world, minX + x, minY + y, minZ + z));
+		}
+	}
+
+	// Data Access
+
+	/**
+	 * @return The cell type at a given world coordinate. Either a moderator index, or one of the CELL_ constants.
+	 */
+	public short getCell(int x, int y, int z) {
+		if(!isInterior(x, y, z)) { return CELL_CASING; }
+		return cells[getCellIndex(x - minX, y - minY, z - minZ)];
+	}
+
+	public ReactorInteriorData getModerator(short cell) {
+		return moderators.get(cell);
+	}
+
+	/**
+	 * @return The control rod atop the fuel column at x, z, or null if there isn't one.
+	 */
+	public TileEntityReactorControlRod getControlRod(int x, int z) {
+		if(x < minX || x >= minX + sizeX || z < minZ || z >= minZ + sizeZ) { return null; }
+		return columnControlRods[getColumnIndex(x - minX, z - minZ)];
+	}
+
+	/**
+	 * @return One of the fuel rods in the column at x, z, or null if there are none.
+	 */
+	public TileEntityReactorFuelRod getFuelRod(int x, int z) {
+		if(x < minX || x >= minX + sizeX || z < minZ || z >= minZ + sizeZ) { return null; }
+		return columnFuelRods[getColumnIndex(x - minX, z - minZ)];
+	}
+
+	/**
+	 * @return The number of fuel rods in the column at x, z.
+	 */
+	public int getColumnHeight(int x, int z) {
+		if(x < minX || x >= minX + sizeX || z < minZ || z >= minZ + sizeZ) { return 0; }
+		return columnHeights[getColumnIndex(x - minX, z - minZ)];
+	}
+
+	// Fuel rod access, by index. Indices are stable until the lattice is rebuilt.
+	public int getFuelRodCount() { return fuelRodCount; }
+	public int getFuelRodX(int idx) { return fuelRodX[idx]; }
+	public int getFuelRodY(int idx) { return fuelRodY[idx]; }
+	public int getFuelRodZ(int idx) { return fuelRodZ[idx]; }
+
+	/**
+	 * @return The insertion of the control rod atop a fuel rod's column, 0-100, or -1 if the column has no control rod.
+	 */
+	public int getFuelRodInsertion(int idx) {
+		return columnInsertions[fuelRodColumn[idx]];
+	}
+
+	public int getFuelRodColumn(int idx) { return fuelRodColumn[idx]; }
+
+	// Column access, by column ID
+	public int getColumnCount() { return columnControlRods.length; }
+	public TileEntityReactorControlRod getColumnControlRod(int column) { return columnControlRods[column]; }
+	public int getColumnHeight(int column) { return columnHeights[column]; }
+
+	/**
+	 * @return Index of the lowest fuel rod in a column. The column's other fuel rods follow it, up to its height.
+	 */
+	public int getColumnFirstFuelRod(int column) { return columnFirstFuelRod[column]; }
+
+	// Control rods, in column order. Tile entities are null when built by hand.
+	public int getControlRodCount() { return controlRodColumns.length; }
+	public TileEntityReactorControlRod getIndexedControlRod(int idx) { return columnControlRods[controlRodColumns[idx]]; }
+
+	/**
+	 * @return The insertion of a column's control rod, 0-100, or -1 if the column has no control rod.
+	 */
+	public int getColumnInsertion(int column) {
+		return columnInsertions[column];
+	}
+
+	/**
+	 * @return The insertion of the control rod atop the column at x, z, 0-100, or -1 if there isn't one.
+	 */
+	public int getInsertion(int x, int z) {
+		if(x < minX || x >= minX + sizeX || z < minZ || z >= minZ + sizeZ) { return -1; }
+		return columnInsertions[getColumnIndex(x - minX, z - minZ)];
+	}
+
+	/**
+	 * @return The rate at which heat moves from the fuel rods to the reactor: the heat conductivity of each
+	 * cell beside a fuel rod, summed over all fuel rods. Other fuel rods don't count, due to heat pooling.
+	 */
+	public float getFuelHeatTransfer() { return fuelHeatTransfer; }
+
+	/**
+	 * @return A number which changes whenever the contents of the lattice change.
+	 */
+	public int getVersion() { return version; }
+
+	public boolean isInterior(int x, int y, int z) {
+		return x >= minX && x < minX + sizeX &&
+				y >= minY && y < minY + sizeY &&
+				z >= minZ && z < minZ + sizeZ;
+	}
+
+	// Internals
+	private int getCellIndex(int x, int y, int z) {
+		return (x * sizeZ + z) * sizeY + y;
+	}
+
+	private int getColumnIndex(int x, int z) {
+		return x * sizeZ + z;
+	}
+
+	// x, y, z relative to the interior's minimum
+	private void setCell(int x, int y, int z, short cell) {
+		int idx = getCellIndex(x, y, z);
+		short oldCell = cells[idx];
+		if(oldCell == cell) { return; }
+
+		cells[idx] = cell;
+		version++;
+
+		// Only this cell's own fuel rod, if any, and the fuel rods beside it see the change
+		if(oldCell == CELL_FUEL_ROD) { fuelHeatTransfer -= getFuelRodHeatTransfer(x, y, z); }
+		if(cell == CELL_FUEL_ROD) { fuelHeatTransfer += getFuelRodHeatTransfer(x, y, z); }
+
+		int adjacentFuelRods = 0;
+		for(ForgeDirection dir : StaticUtils.CardinalDirections) {
+			if(getCell(minX + x + dir.offsetX, minY + y, minZ + z + dir.offsetZ) == CELL_FUEL_ROD) { adjacentFuelRods++; }
+		}
+
+		if(adjacentFuelRods > 0) {
+			fuelHeatTransfer += adjacentFuelRods * (getHeatConductivity(cell) - getHeatConductivity(oldCell));
+		}
+	}
+
+	// x, y, z relative to the interior's minimum
+	private float getFuelRodHeatTransfer(int x, int y, int z) {
+		float heatTransfer = 0f;
+		for(ForgeDirection dir : StaticUtils.CardinalDirections) {
+			heatTransfer += getHeatConductivity(getCell(minX + x + dir.offsetX, minY + y, minZ + z + dir.offsetZ));
+		}
+		return heatTransfer;
+	}
+
+	// As seen from a fuel rod beside the cell
+	private float getHeatConductivity(short cell) {
+		if(cell == CELL_FUEL_ROD) { return 0f; } // We don't transfer to other fuel rods, due to heat pooling.
+		else if(cell == CELL_CASING) { return IHeatEntity.conductivityIron; }
+		else { return moderators.get(cell).heatConductivity; }
+	}
+
+	private short classify(World world, int x, int y, int z) {
+		TileEntity te = world.getTileEntity(x, y, z);
+		if(te instanceof TileEntityReactorFuelRod) {
+			columnFuelRods[getColumnIndex(x - minX, z - minZ)] = (TileEntityReactorFuelRod)te;
+			return CELL_FUEL_ROD;
+		}
+		else if(te instanceof TileEntityReactorPartBase) {
+			return CELL_CASING;
+		}
+
+		ReactorInteriorData data;
+		if(world.isAirBlock(x, y, z)) {
+			data = RadiationHelper.airData;
+		}
+		else {
+			Block block = world.getBlock(x, y, z);
+			if(block instanceof IFluidBlock) {
+				data = RadiationHelper.getFluidModeratorData(((IFluidBlock)block).getFluid());
+			}
+			else if(block != null) {
+				data = RadiationHelper.getBlockModeratorData(block, world.getBlockMetadata(x, y, z));
+			}
+			else {
+				data = RadiationHelper.airData;
+			}
+		}
+
+		return getModeratorIndex(data);
+	}
+
+	private short getModeratorIndex(ReactorInteriorData data) {
+		// Identity comparison; there are only ever a handful of these
+		for(int i = 0; i < moderators.size(); i++) {
+			if(moderators.get(i) == data) { return (short)i; }
+		}
+
+		moderators.add(data);
+		return (short)(moderators.size() - 1);
+	}
+}
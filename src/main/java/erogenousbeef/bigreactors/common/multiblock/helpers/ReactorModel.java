@@ -0,0 +1,415 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import erogenousbeef.bigreactors.api.IHeatEntity;
+import erogenousbeef.bigreactors.common.BigReactors;
+import erogenousbeef.bigreactors.common.data.RadiationData;
+import erogenousbeef.bigreactors.utils.StaticUtils;
+
+/**
+ * A reactor's physics, without a world: radiation, fuel usage, fertility, heat transfer
+ * and energy generation. Holds everything those need, and nothing else.
+ *
+ * MultiblockReactor owns one of these and delegates its simulation to it, doing only the
+ * parts which need the world, such as moving reactants through access ports, in between.
+ * A model can also be set up by hand and stepped on its own, for benchmarks, tests and replays:
+ * fill in getInteriorLattice() (see ReactorInteriorLattice.allocate()), call setInteriorSize(),
+ * add fuel and coolant capacity, then call step(). Actively-cooled models should also have
+ * tickCoolant() called on each tick between steps.
+ *
+ * Stepping is deterministic: the same model state and config always produce the same results.
+ */
+public class ReactorModel {
+
+	// Game Balance Values
+	public static final float passiveCoolingPowerEfficiency = 0.5f; // 50% power penalty, so this comes out as about 1/3 a basic water-cooled reactor
+	public static final float passiveCoolingTransferEfficiency = 0.2f; // 20% of available heat transferred per tick when passively cooled
+	public static final float reactorHeatLossConductivity = 0.001f; // circa 1RF per tick per external surface block
+
+	// Smallest temperature differences across which heat moves, inside the reactor and out to the world
+	private static final float minimumHeatTransferDifference = 0.01f;
+	private static final float minimumHeatLossDifference = 0.000001f;
+
+	// Thermal network layout
+	private static final int NODE_FUEL = 0;
+	private static final int NODE_REACTOR = 1;
+	private static final int NODE_COOLANT = 2;	// Reservoir
+	private static final int NODE_OUTSIDE = 3;	// Reservoir
+	private static final int EDGE_FUEL_REACTOR = 0;
+	private static final int EDGE_REACTOR_COOLANT = 1;
+	private static final int EDGE_REACTOR_OUTSIDE = 2;
+
+	// State
+	private float reactorHeat;
+	private float fuelHeat;
+	private EnergyBuffer energyBuffer;
+	private FuelContainer fuelContainer;
+	private CoolantContainer coolantContainer;
+	private RadiationHelper radiationHelper;
+	private ReactorInteriorLattice interiorLattice;
+	private int currentFuelRod;		// Index into the interior lattice's fuel rods
+
+	// Heat the coolant system took in the last step, handed to it a tick at a time; see tickCoolant()
+	private float coolantRfPerTick;
+	private int coolantTicksPending;
+
+	// Derived from the reactor's shape
+	private int reactorVolume;
+	private float fuelToReactorHeatTransferCoefficient;
+	private float reactorToCoolantSystemHeatTransferCoefficient;
+	private float reactorHeatLossCoefficient;
+
+	private ThermalNetwork thermalNetwork;
+
+	// Statistics, per tick
+	private float energyGeneratedLastTick;
+	private float fuelConsumedLastTick;
+
+	public ReactorModel(long energyCapacity) {
+		reactorHeat = 0f;
+		fuelHeat = 0f;
+		energyBuffer = new EnergyBuffer(energyCapacity);
+		fuelContainer = new FuelContainer();
+		coolantContainer = new CoolantContainer();
+		radiationHelper = new RadiationHelper();
+		interiorLattice = new ReactorInteriorLattice();
+		currentFuelRod = 0;
+		coolantRfPerTick = 0f;
+		coolantTicksPending = 0;
+
+		reactorVolume = 0;
+		fuelToReactorHeatTransferCoefficient = 0f;
+		reactorToCoolantSystemHeatTransferCoefficient = 0f;
+		reactorHeatLossCoefficient = 0f;
+
+		thermalNetwork = new ThermalNetwork(4, 3);
+		thermalNetwork.setEdge(EDGE_FUEL_REACTOR, NODE_FUEL, NODE_REACTOR);
+		thermalNetwork.setEdge(EDGE_REACTOR_COOLANT, NODE_REACTOR, NODE_COOLANT);
+		thermalNetwork.setEdge(EDGE_REACTOR_OUTSIDE, NODE_REACTOR, NODE_OUTSIDE);
+
+		energyGeneratedLastTick = 0f;
+		fuelConsumedLastTick = 0f;
+	}
+
+	// Structure
+
+	/**
+	 * Set the size of the reactor's interior, excluding its casing.
+	 * Derives the reactor's volume and its heat transfer to coolant and to the outside world.
+	 */
+	public void setInteriorSize(int xSize, int ySize, int zSize) {
+		reactorVolume = xSize * ySize * zSize;
+
+		// Calculate heat transfer to coolant system based on reactor interior surface area.
+		// This is pretty simple to start with - surface area of the rectangular prism defining the interior.
+		int surfaceArea = 2 * (xSize * ySize + xSize * zSize + ySize * zSize);
+		reactorToCoolantSystemHeatTransferCoefficient = IHeatEntity.conductivityIron * surfaceArea;
+
+		// Calculate passive heat loss, based on external surface area
+		xSize += 2;
+		ySize += 2;
+		zSize += 2;
+		surfaceArea = 2 * (xSize * ySize + xSize * zSize + ySize * zSize);
+		reactorHeatLossCoefficient = reactorHeatLossConductivity * surfaceArea;
+	}
+
+	/**
+	 * Set the rate at which heat moves from fuel to the reactor.
+	 */
+	public void setFuelToReactorHeatTransferCoefficient(float coefficient) {
+		fuelToReactorHeatTransferCoefficient = coefficient;
+	}
+
+	/**
+	 * Work out the rate at which heat moves from fuel to the reactor from the interior lattice alone:
+	 * each fuel rod exchanges heat with the cells beside it, except other fuel rods.
+	 * The lattice keeps this up to date as its cells change, so this is cheap.
+	 */
+	public float calculateFuelToReactorHeatTransferCoefficient() {
+		return interiorLattice.getFuelHeatTransfer();
+	}
+
+	/**
+	 * Forget which fuel rod radiates next, after the lattice is rebuilt.
+	 */
+	public void resetCurrentFuelRod() {
+		currentFuelRod = 0;
+	}
+
+	// Simulation
+
+	/**
+	 * Simulate a number of ticks at once, without a world.
+	 * @param active Whether the reactor is on
+	 * @param dt Number of ticks to simulate
+	 */
+	public void step(boolean active, int dt) {
+		beginStep();
+		simulateRadiation(active, true, dt);
+		simulateHeat(dt);
+	}
+
+	/**
+	 * Clear the statistics before simulating a step.
+	 */
+	public void beginStep() {
+		energyGeneratedLastTick = 0f;
+		fuelConsumedLastTick = 0f;
+	}
+
+	/**
+	 * First part of a step: radiate, if the reactor is active, and decay fertility.
+	 * @param radiate False if this step's radiation was already calculated elsewhere, e.g. on a worker thread
+	 */
+	public void simulateRadiation(boolean active, boolean radiate, int dt) {
+		if(active && radiate) {
+			assimilateRadiation(radiate(fuelContainer.getFuelAmount(), fuelContainer.getWasteAmount(), fuelContainer.getFuelReactivity(), getFuelHeat(), getReactorHeat(), interiorLattice.getControlRodCount(), dt));
+		}
+
+		// Allow radiation to decay even when reactor is off.
+		radiationHelper.tick(active, dt);
+	}
+
+	/**
+	 * Radiate from the reactor's fuel. Fuel and heat are passed in by value, so this can be run off the main thread.
+	 * The results must be passed to assimilateRadiation() on the main thread.
+	 * @return The radiation results, or null if nothing was radiated
+	 */
+	public RadiationData radiate(int fuelAmount, int wasteAmount, float fuelReactivity, float fuelHeat, float environmentHeat, int numControlRods, int dt) {
+		if(BigReactors.reactorRadiateAllFuelRods) {
+			// Radiate from every fuel rod at once
+			return radiationHelper.radiateAll(interiorLattice, fuelAmount, wasteAmount, fuelReactivity, fuelHeat, environmentHeat, numControlRods, dt);
+		}
+
+		// Select a fuel rod to radiate from, wrapping around to the first one if needed.
+		if(currentFuelRod >= interiorLattice.getFuelRodCount()) {
+			currentFuelRod = 0;
+		}
+
+		// Radiate from that fuel rod
+		RadiationData radData = null;
+		if(currentFuelRod < interiorLattice.getFuelRodCount()) {
+			radData = radiationHelper.radiate(interiorLattice, fuelAmount, wasteAmount, fuelReactivity, currentFuelRod, fuelHeat, environmentHeat, numControlRods, dt);
+			currentFuelRod++;
+		}
+
+		return radData;
+	}
+
+	public void assimilateRadiation(RadiationData radData) {
+		if(radData == null) { return; }
+
+		fuelContainer.onRadiationUsesFuel(radData.fuelUsage);
+		addFuelHeat(radData.getFuelHeatChange(interiorLattice.getFuelRodCount()));
+		addReactorHeat(radData.getEnvironmentHeatChange(getReactorVolume()));
+		fuelConsumedLastTick += radData.fuelUsage;
+	}
+
+	/**
+	 * Last part of a step: move heat between fuel, reactor, coolant and the outside world, all at once,
+	 * and generate energy from the heat the coolant system takes.
+	 */
+	public void simulateHeat(int dt) {
+		// Whatever of the last step's heat the coolant system hasn't had yet, it gets now
+		if(coolantTicksPending > 0) {
+			addReactorHeat(StaticUtils.Energy.getTempFromVolumeAndRF(getReactorVolume(), absorbCoolantHeat(coolantTicksPending)));
+		}
+
+		float coolantTemperature = getCoolantTemperature();
+		float fuelToReactor = fuelHeat - reactorHeat > minimumHeatTransferDifference ? fuelToReactorHeatTransferCoefficient : 0f;
+		float reactorToCoolant = 0f;
+		if(getReactorHeat() - coolantTemperature > minimumHeatTransferDifference) {
+			reactorToCoolant = reactorToCoolantSystemHeatTransferCoefficient;
+			if(isPassivelyCooled()) {
+				reactorToCoolant *= passiveCoolingTransferEfficiency;
+			}
+		}
+		boolean losingHeat = getReactorHeat() - getPassiveCoolantTemperature() > minimumHeatLossDifference;
+
+		thermalNetwork.setTemperature(NODE_FUEL, getFuelHeat());
+		thermalNetwork.setCapacity(NODE_FUEL, StaticUtils.Energy.getRFFromVolumeAndTemp(interiorLattice.getFuelRodCount(), 1f));
+		thermalNetwork.setTemperature(NODE_REACTOR, getReactorHeat());
+		thermalNetwork.setCapacity(NODE_REACTOR, StaticUtils.Energy.getRFFromVolumeAndTemp(getReactorVolume(), 1f));
+		thermalNetwork.setTemperature(NODE_COOLANT, coolantTemperature);
+		thermalNetwork.setTemperature(NODE_OUTSIDE, getPassiveCoolantTemperature());
+		thermalNetwork.setConductance(EDGE_FUEL_REACTOR, fuelToReactor);
+		thermalNetwork.setConductance(EDGE_REACTOR_COOLANT, reactorToCoolant);
+		thermalNetwork.setConductance(EDGE_REACTOR_OUTSIDE, losingHeat ? reactorHeatLossCoefficient : 0f);
+		thermalNetwork.solve(dt);
+
+		// RF the reactor environment gets back, because the coolant system couldn't take it or to make up the minimum loss
+		float reactorRfAdjustment = 0f;
+
+		float rfToCoolant = thermalNetwork.getHeatFlow(EDGE_REACTOR_COOLANT);
+		if(rfToCoolant > 0f) {
+			if(isPassivelyCooled()) {
+				generateEnergy(rfToCoolant * passiveCoolingPowerEfficiency);
+			}
+			else {
+				// The coolant system gets this tick's share now, and the rest over the ticks until the next step
+				coolantRfPerTick = rfToCoolant / dt;
+				coolantTicksPending = dt;
+				reactorRfAdjustment += absorbCoolantHeat(1);
+			}
+		}
+
+		if(losingHeat) {
+			// Lose at least 1RF/t
+			reactorRfAdjustment -= Math.max(0f, 1f * dt - thermalNetwork.getHeatFlow(EDGE_REACTOR_OUTSIDE));
+		}
+
+		setFuelHeat(thermalNetwork.getTemperature(NODE_FUEL));
+		setReactorHeat(thermalNetwork.getTemperature(NODE_REACTOR) + StaticUtils.Energy.getTempFromVolumeAndRF(getReactorVolume(), reactorRfAdjustment));
+
+		// Prevent cryogenics
+		if(reactorHeat < 0f) { setReactorHeat(0f); }
+		if(fuelHeat < 0f) { setFuelHeat(0f); }
+
+		// UI values are per tick. Coolant is already vaporized a tick at a time.
+		if(dt > 1) {
+			if(isPassivelyCooled()) {
+				energyGeneratedLastTick /= dt;
+			}
+			fuelConsumedLastTick /= dt;
+		}
+	}
+
+	/**
+	 * @return True if a step wouldn't move any heat, unless the reactor radiates or its coolant changes:
+	 * the fuel, reactor and coolant are as close in temperature as simulateHeat() lets them get, and
+	 * the coolant system has taken all of the last step's heat.
+	 */
+	public boolean isHeatSettled() {
+		if(coolantTicksPending > 0) { return false; }
+		if(getFuelHeat() - getReactorHeat() > minimumHeatTransferDifference) { return false; }
+		if(getReactorHeat() - getCoolantTemperature() > minimumHeatTransferDifference) { return false; }
+		if(getReactorHeat() - getPassiveCoolantTemperature() > minimumHeatLossDifference) { return false; }
+		return true;
+	}
+
+	/**
+	 * Call on each tick between steps. Hands the coolant system its share of the last step's heat.
+	 *
+	 * A step's heat is vaporized over as many ticks as the step covered, so coolant ports can fill
+	 * and empty the coolant tanks in between, just as when simulating every tick. Otherwise a step
+	 * could vaporize no more than one tank's worth, however many ticks it covered.
+	 * Heat the coolant system can't take goes back to the reactor.
+	 */
+	public void tickCoolant() {
+		if(coolantTicksPending <= 0) { return; }
+		addReactorHeat(StaticUtils.Energy.getTempFromVolumeAndRF(getReactorVolume(), absorbCoolantHeat(1)));
+	}
+
+	/**
+	 * Vaporize coolant with some of the last step's heat.
+	 * @param ticks Number of ticks' worth of heat to hand over
+	 * @return RF the coolant system couldn't take
+	 */
+	private float absorbCoolantHeat(int ticks) {
+		ticks = Math.min(ticks, coolantTicksPending);
+		coolantTicksPending -= ticks;
+
+		float rfRemaining = coolantContainer.onAbsorbHeat(coolantRfPerTick * ticks);
+		energyGeneratedLastTick = coolantContainer.getFluidVaporizedLastTick(); // Piggyback so we don't have useless stuff in the update packet
+		return rfRemaining;
+	}
+
+	/**
+	 * @return RF from the last step which the coolant system has yet to take
+	 */
+	public float getCoolantHeatPending() {
+		return coolantRfPerTick * coolantTicksPending;
+	}
+
+	/**
+	 * @return Number of ticks over which the coolant system has yet to take the last step's heat
+	 */
+	public int getCoolantTicksPending() {
+		return coolantTicksPending;
+	}
+
+	public void setCoolantHeatPending(float rf, int ticks) {
+		coolantTicksPending = Math.max(0, ticks);
+		coolantRfPerTick = coolantTicksPending > 0 ? rf / coolantTicksPending : 0f;
+	}
+
+	/**
+	 * Generate energy, internally. Will be multiplied by the BR Setting powerProductionMultiplier
+	 * @param newEnergy Base, unmultiplied energy to generate
+	 */
+	public void generateEnergy(float newEnergy) {
+		newEnergy = newEnergy * BigReactors.powerProductionMultiplier * BigReactors.reactorPowerProductionMultiplier;
+		energyGeneratedLastTick += newEnergy;
+		energyBuffer.addEnergy(newEnergy);
+	}
+
+	// Heat
+
+	public void addReactorHeat(float newCasingHeat) {
+		if(Float.isNaN(newCasingHeat)) {
+			return;
+		}
+
+		reactorHeat += newCasingHeat;
+		// Clamp to zero to prevent floating point issues
+		if(-0.00001f < reactorHeat && reactorHeat < 0.00001f) { reactorHeat = 0.0f; }
+	}
+
+	public float getReactorHeat() {
+		return reactorHeat;
+	}
+
+	public void setReactorHeat(float newHeat) {
+		if(Float.isNaN(newHeat)) {
+			reactorHeat = 0.0f;
+		}
+		else {
+			reactorHeat = newHeat;
+		}
+	}
+
+	public void addFuelHeat(float additionalHeat) {
+		if(Float.isNaN(additionalHeat)) { return; }
+
+		fuelHeat += additionalHeat;
+		if(-0.00001f < fuelHeat & fuelHeat < 0.00001f) { fuelHeat = 0f; }
+	}
+
+	public float getFuelHeat() { return fuelHeat; }
+
+	public void setFuelHeat(float newFuelHeat) {
+		if(Float.isNaN(newFuelHeat)) { fuelHeat = 0f; }
+		else { fuelHeat = newFuelHeat; }
+	}
+
+	// Coolant
+
+	public float getPassiveCoolantTemperature() {
+		return IHeatEntity.ambientHeat;
+	}
+
+	public float getCoolantTemperature() {
+		if(isPassivelyCooled()) {
+			return getPassiveCoolantTemperature();
+		}
+		else {
+			return coolantContainer.getCoolantTemperature(getReactorHeat());
+		}
+	}
+
+	public boolean isPassivelyCooled() {
+		return coolantContainer.getCapacity() <= 0;
+	}
+
+	// Data Access
+	public EnergyBuffer getEnergyBuffer() { return energyBuffer; }
+	public FuelContainer getFuelContainer() { return fuelContainer; }
+	public CoolantContainer getCoolantContainer() { return coolantContainer; }
+	public RadiationHelper getRadiationHelper() { return radiationHelper; }
+	public ReactorInteriorLattice getInteriorLattice() { return interiorLattice; }
+	public int getReactorVolume() { return reactorVolume; }
+
+	public float getEnergyGeneratedLastTick() { return energyGeneratedLastTick; }
+	public void setEnergyGeneratedLastTick(float energyGenerated) { energyGeneratedLastTick = energyGenerated; }
+	public float getFuelConsumedLastTick() { return fuelConsumedLastTick; }
+	public void setFuelConsumedLastTick(float fuelConsumed) { fuelConsumedLastTick = fuelConsumed; }
+}
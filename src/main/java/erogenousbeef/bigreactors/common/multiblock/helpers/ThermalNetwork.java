@@ -0,0 +1,160 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+/**
+ * A small network of bodies exchanging heat, such as a reactor's fuel pool,
+ * its interior, its coolant system and the outside world.
+ *
+ * Each node has a temperature and a heat capacity, in RF per degree. Nodes with
+ * no heat capacity are reservoirs, whose temperature never changes. Each edge has
+ * a conductance, in RF per degree of difference per tick; a conductance of 0
+ * disconnects it.
+ *
+ * solve() steps all nodes forward together using backward Euler, so the result
+ * doesn't depend on the order of the edges and stays stable for any timestep
+ * or conductance. It doesn't allocate, so it can be run every tick.
+ */
+public class ThermalNetwork {
+
+	private float[] temperatures;
+	private float[] capacities;
+
+	private int[] edgeFrom;
+	private int[] edgeTo;
+	private float[] conductances;
+	private float[] heatFlows;
+
+	// Scratch space for the linear system over non-reservoir nodes
+	private int[] rows;
+	private double[][] matrix;
+	private double[] rhs;
+
+	public ThermalNetwork(int numNodes, int numEdges) {
+		temperatures = new float[numNodes];
+		capacities = new float[numNodes];
+
+		edgeFrom = new int[numEdges];
+		edgeTo = new int[numEdges];
+		conductances = new float[numEdges];
+		heatFlows = new float[numEdges];
+
+		rows = new int[numNodes];
+		matrix = new double[numNodes][numNodes];
+		rhs = new double[numNodes];
+	}
+
+	/**
+	 * Connect two nodes. Heat flows are reported as moving from the first to the second.
+	 */
+	public void setEdge(int edge, int from, int to) {
+		edgeFrom[edge] = from;
+		edgeTo[edge] = to;
+	}
+
+	public void setTemperature(int node, float temperature) { temperatures[node] = temperature; }
+	public float getTemperature(int node) { return temperatures[node]; }
+
+	/**
+	 * @param capacity RF needed to raise the node by one degree, or 0 for a reservoir
+	 */
+	public void setCapacity(int node, float capacity) { capacities[node] = capacity; }
+
+	public void setConductance(int edge, float conductance) { conductances[edge] = conductance; }
+
+	/**
+	 * @return RF moved along an edge, from its first node to its second, during the last solve()
+	 */
+	public float getHeatFlow(int edge) { return heatFlows[edge]; }
+
+	/**
+	 * Advance every node's temperature by a number of ticks.
+	 */
+	public void solve(int dt) {
+		// Number the nodes whose temperature can change
+		int numRows = 0;
+		for(int node = 0; node < temperatures.length; node++) {
+			if(capacities[node] > 0f) {
+				rows[node] = numRows++;
+			}
+			else {
+				rows[node] = -1;
+			}
+		}
+
+		// C * (T' - T) = dt * sum(G * (T'other - T'))
+		for(int row = 0; row < numRows; row++) {
+			for(int col = 0; col < numRows; col++) {
+				matrix[row][col] = 0.0;
+			}
+		}
+
+		for(int node = 0; node < temperatures.length; node++) {
+			int row = rows[node];
+			if(row < 0) { continue; }
+			matrix[row][row] = capacities[node];
+			rhs[row] = (double)capacities[node] * temperatures[node];
+		}
+
+		for(int edge = 0; edge < conductances.length; edge++) {
+			if(conductances[edge] <= 0f) { continue; }
+			double g = (double)conductances[edge] * dt;
+			addConductance(edgeFrom[edge], edgeTo[edge], g);
+			addConductance(edgeTo[edge], edgeFrom[edge], g);
+		}
+
+		// The matrix is symmetric and diagonally dominant, so no pivoting is needed
+		for(int pivot = 0; pivot < numRows; pivot++) {
+			for(int row = pivot + 1; row < numRows; row++) {
+				double factor = matrix[row][pivot] / matrix[pivot][pivot];
+				if(factor == 0.0) { continue; }
+				for(int col = pivot; col < numRows; col++) {
+					matrix[row][col] -= factor * matrix[pivot][col];
+				}
+				rhs[row] -= factor * rhs[pivot];
+			}
+		}
+
+		for(int row = numRows - 1; row >= 0; row--) {
+			double sum = rhs[row];
+			for(int col = row + 1; col < numRows; col++) {
+				sum -= matrix[row][col] * rhs[col];
+			}
+			rhs[row] = sum / matrix[row][row];
+		}
+
+		// Flows first, while the new temperatures are still at full precision
+		for(int edge = 0; edge < conductances.length; edge++) {
+			if(conductances[edge] <= 0f) {
+				heatFlows[edge] = 0f;
+			}
+			else {
+				heatFlows[edge] = (float)((double)conductances[edge] * dt * (getSolvedTemperature(edgeFrom[edge]) - getSolvedTemperature(edgeTo[edge])));
+			}
+		}
+
+		for(int node = 0; node < temperatures.length; node++) {
+			if(rows[node] >= 0) {
+				temperatures[node] = (float)rhs[rows[node]];
+			}
+		}
+	}
+
+	// Only valid at the end of solve()
+	private double getSolvedTemperature(int node) {
+		return rows[node] >= 0 ? rhs[rows[node]] : temperatures[node];
+	}
+
+	// Add the effect of a conductance from a node to another on the first node's row
+	private void addConductance(int node, int other, double g) {
+		int row = rows[node];
+		if(row < 0) { return; }
+
+		matrix[row][row] += g;
+		int otherRow = rows[other];
+		if(otherRow < 0) {
+			rhs[row] += g * temperatures[other];
+		}
+		else {
+			matrix[row][otherRow] -= g;
+		}
+	}
+}
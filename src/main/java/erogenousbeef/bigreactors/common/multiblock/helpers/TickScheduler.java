@@ -0,0 +1,186 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+
+/**
+ * Calls onMultiblockServerTick() on a multiblock's tickable parts, only on the ticks they want it.
+ *
+ * Parts are kept in a timing wheel: one slot per tick, wrapping around, so each tick
+ * only looks at the parts due on it. Plain ITickableMultiblockPart parts are due every tick;
+ * IScheduledMultiblockPart parts choose their own delay, or sleep until woken.
+ *
+ * A newly-attached part's first update is staggered within its delay, so that many
+ * identical parts don't all update on the same tick. Delays longer than the wheel
+ * are shortened to fit it.
+ *
+ * Each attached part gets a slot ID, and the wheel and due ticks are kept in primitive
+ * arrays indexed by it, so that ticking, scheduling and waking parts allocates nothing
+ * once the arrays have grown to fit. Only attaching and detaching parts touches a map.
+ */
+public class TickScheduler {
+
+	private static final int WHEEL_SIZE = 256; // Must be a power of 2
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	private static final long NOT_SCHEDULED = -1;
+	private static final long DETACHED = -2;
+
+	// Attached parts by slot ID, and the tick each is next due, NOT_SCHEDULED if it's asleep,
+	// or DETACHED if the slot is free. Free slots are reused.
+	private ITickableMultiblockPart[] parts;
+	private long[] dueTicks;
+	private int numSlots;
+	private int[] freeSlots;
+	private int numFreeSlots;
+	private Map<ITickableMultiblockPart, Integer> slotIds;
+
+	// Slot IDs due on each tick of the wheel. Entries which don't match dueTicks are stale, and skipped.
+	private int[][] wheel;
+	private int[] wheelCounts;
+	private int[] firing;
+
+	private long currentTick;
+	private int nextStagger;
+
+	public TickScheduler() {
+		parts = new ITickableMultiblockPart[16];
+		dueTicks = new long[16];
+		numSlots = 0;
+		freeSlots = new int[16];
+		numFreeSlots = 0;
+		slotIds = new HashMap<ITickableMultiblockPart, Integer>();
+
+		wheel = new int[WHEEL_SIZE][];
+		for(int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new int[4];
+		}
+		wheelCounts = new int[WHEEL_SIZE];
+		firing = new int[4];
+
+		currentTick = 0;
+		nextStagger = 0;
+	}
+
+	public void add(ITickableMultiblockPart part) {
+		remove(part);
+
+		int slotId;
+		if(numFreeSlots > 0) {
+			slotId = freeSlots[--numFreeSlots];
+		}
+		else {
+			if(numSlots >= parts.length) {
+				parts = Arrays.copyOf(parts, parts.length * 2);
+				dueTicks = Arrays.copyOf(dueTicks, dueTicks.length * 2);
+			}
+			slotId = numSlots++;
+		}
+
+		parts[slotId] = part;
+		dueTicks[slotId] = NOT_SCHEDULED;
+		slotIds.put(part, slotId);
+
+		int delay = getDelay(part);
+		if(delay > 1) {
+			// Spread first updates out across the delay
+			delay = 1 + (nextStagger++ % delay);
+		}
+
+		schedule(slotId, delay);
+	}
+
+	public void remove(ITickableMultiblockPart part) {
+		Integer slotId = slotIds.remove(part);
+		if(slotId == null) { return; }
+
+		parts[slotId] = null;
+		dueTicks[slotId] = DETACHED;
+		if(numFreeSlots >= freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+		}
+		freeSlots[numFreeSlots++] = slotId;
+	}
+
+	public void clear() {
+		slotIds.clear();
+		Arrays.fill(parts, null);
+		numSlots = 0;
+		numFreeSlots = 0;
+		Arrays.fill(wheelCounts, 0);
+	}
+
+	/**
+	 * Update a part on the next tick, whether it was sleeping or due later.
+	 * Does nothing if the part isn't attached.
+	 */
+	public void wake(ITickableMultiblockPart part) {
+		Integer slotId = slotIds.get(part);
+		if(slotId == null) { return; }
+		if(dueTicks[slotId] == currentTick + 1) { return; }
+
+		schedule(slotId, 1);
+	}
+
+	/**
+	 * Advance one tick and update every part due on it.
+	 */
+	public void tick() {
+		currentTick++;
+
+		// Swap the slot out, as parts may be scheduled back into it
+		int wheelIdx = (int)(currentTick & WHEEL_MASK);
+		int count = wheelCounts[wheelIdx];
+		if(count <= 0) { return; }
+
+		int[] due = wheel[wheelIdx];
+		wheel[wheelIdx] = firing;
+		wheelCounts[wheelIdx] = 0;
+		firing = due;
+
+		for(int i = 0; i < count; i++) {
+			int slotId = firing[i];
+			if(dueTicks[slotId] != currentTick) { continue; } // Detached, rescheduled or already updated
+
+			ITickableMultiblockPart part = parts[slotId];
+			dueTicks[slotId] = NOT_SCHEDULED;
+			part.onMultiblockServerTick();
+
+			// The part may have been detached, or woken itself, while updating
+			if(parts[slotId] != part || dueTicks[slotId] != NOT_SCHEDULED) { continue; }
+
+			int delay = getDelay(part);
+			if(delay > 0) {
+				schedule(slotId, delay);
+			}
+		}
+	}
+
+	private void schedule(int slotId, int delay) {
+		if(delay <= 0) { return; }
+		delay = Math.min(delay, WHEEL_SIZE - 1);
+
+		long dueTick = currentTick + delay;
+		dueTicks[slotId] = dueTick;
+
+		int wheelIdx = (int)(dueTick & WHEEL_MASK);
+		int count = wheelCounts[wheelIdx];
+		if(count >= wheel[wheelIdx].length) {
+			wheel[wheelIdx] = Arrays.copyOf(wheel[wheelIdx], wheel[wheelIdx].length * 2);
+		}
+		wheel[wheelIdx][count] = slotId;
+		wheelCounts[wheelIdx] = count + 1;
+	}
+
+	private static int getDelay(ITickableMultiblockPart part) {
+		if(part instanceof IScheduledMultiblockPart) {
+			int delay = ((IScheduledMultiblockPart)part).getTicksUntilNextUpdate();
+			return delay == IScheduledMultiblockPart.SLEEP ? 0 : Math.max(1, delay);
+		}
+
+		return 1;
+	}
+}
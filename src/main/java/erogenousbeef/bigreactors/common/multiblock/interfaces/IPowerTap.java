@@ -0,0 +1,24 @@
+package erogenousbeef.bigreactors.common.multiblock.interfaces;
+
+/**
+ * Implement this on multiblock parts which push RF out into an adjacent power network
+ */
+public interface IPowerTap {
+
+	/**
+	 * @return True if there is something next to this tap which can receive RF
+	 */
+	public boolean hasEnergyConnection();
+
+	/**
+	 * @param units Most RF which could be offered
+	 * @return How much of it the adjacent network would accept right now. Nothing is transferred.
+	 */
+	public int getPowerDemand(int units);
+
+	/**
+	 * Push RF into the adjacent network.
+	 * @return Power units remaining after consumption.
+	 */
+	public int onProvidePower(int units);
+}
@@ -0,0 +1,21 @@
+package erogenousbeef.bigreactors.common.multiblock.interfaces;
+
+/**
+ * Implement this instead of ITickableMultiblockPart on parts which don't need to be
+ * updated every tick. The multiblock asks when the part next wants an update
+ * after attaching it and after each update.
+ *
+ * A sleeping part is only updated again once it asks its multiblock to wake it.
+ */
+public interface IScheduledMultiblockPart extends ITickableMultiblockPart {
+
+	/**
+	 * Don't update this part until it is woken up.
+	 */
+	public static final int SLEEP = -1;
+
+	/**
+	 * @return Number of ticks until onMultiblockServerTick() should next be called, at least 1, or SLEEP.
+	 */
+	public int getTicksUntilNextUpdate();
+}
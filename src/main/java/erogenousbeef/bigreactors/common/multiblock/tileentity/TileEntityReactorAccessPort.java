@@ -394,6 +394,16 @@ public class TileEntityReactorAccessPort extends TileEntityReactorPart implement
 		return new GuiReactorAccessPort(new ContainerReactorAccessPort(this, inventoryPlayer), this);
 	}
 
+	@Override
+	public void markDirty() {
+		super.markDirty();
+
+		// Our inventory changed, so the reactor may have fuel to take or room to put waste
+		if(worldObj != null && !worldObj.isRemote && isConnected()) {
+			getReactorController().onAccessPortChanged();
+		}
+	}
+
 	/**
 	 * Called when stuff has been placed in the access port
 	 */
@@ -414,6 +424,10 @@ public class TileEntityReactorAccessPort extends TileEntityReactorPart implement
 		if(!worldObj.isRemote) {
 			distributeItems();
 			markChunkDirty();
+
+			if(isConnected()) {
+				getReactorController().onAccessPortChanged();
+			}
 		}
 
 		notifyNeighborsOfTileChange();
@@ -56,7 +56,9 @@ public class TileEntityReactorComputerPort extends TileEntityReactorPart impleme
 		setAllControlRodLevels,	// Required Arg: integer (insertion)
 		setControlRodName,		// Required Args: fuel rod index, string (name)
 		doEjectWaste,			// No arguments
-		doEjectFuel				// No arguments
+		doEjectFuel,			// No arguments
+		getSimulationInterval,	// No arguments
+		setSimulationInterval	// Required Arg: integer (ticks, 0 for the server's setting)
 	}
 
 	public static final int numMethods = ComputerMethod.values().length;
@@ -98,7 +100,7 @@ public class TileEntityReactorComputerPort extends TileEntityReactorPart impleme
 
 		switch(computerMethod) {
 		case getEnergyStored:
-			return new Object[] { (int)reactor.getEnergyStored() };
+			return new Object[] { reactor.getEnergyStoredRF() };
 		case getNumberOfControlRods:
 			return new Object[] { (int)reactor.getFuelRodCount() };
 		case getActive:
@@ -271,6 +273,23 @@ public class TileEntityReactorComputerPort extends TileEntityReactorPart impleme
 			reactor.ejectFuel(false, null);
 			return null;
 
+		case getSimulationInterval:
+			return new Object[] { reactor.getSimulationInterval() };
+
+		case setSimulationInterval:
+			if(arguments.length < 1) {
+				throw new IllegalArgumentException("Insufficient number of arguments, expected 1");
+			}
+			if(!(arguments[0] instanceof Double)) {
+				throw new IllegalArgumentException("Invalid argument 0, expected Number");
+			}
+			newLevel = (int)Math.round((Double)arguments[0]);
+			if(newLevel < 0 || newLevel > MultiblockReactor.MaxSimulationInterval) {
+				throw new IllegalArgumentException(String.format("Invalid argument 0, valid range is 0-%d", MultiblockReactor.MaxSimulationInterval));
+			}
+			reactor.setSimulationInterval(newLevel);
+			return null;
+
 		default: throw new Exception("Method unimplemented - yell at Beef");
 		}
 	}
@@ -12,10 +12,10 @@ import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidHandler;
 import erogenousbeef.bigreactors.common.multiblock.helpers.CoolantContainer;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.INeighborUpdatableEntity;
-import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
 import erogenousbeef.core.multiblock.MultiblockControllerBase;
 
-public class TileEntityReactorCoolantPort extends TileEntityReactorPart implements IFluidHandler, INeighborUpdatableEntity, ITickableMultiblockPart {
+public class TileEntityReactorCoolantPort extends TileEntityReactorPart implements IFluidHandler, INeighborUpdatableEntity, IScheduledMultiblockPart {
 
 	boolean inlet;
 	IFluidHandler pumpDestination;
@@ -116,7 +116,11 @@ public class TileEntityReactorCoolantPort extends TileEntityReactorPart implemen
 		if(!isConnected() || !inlet || from != getOutwardsDir()) { return 0; }
 		
 		CoolantContainer cc = getReactorController().getCoolantContainer();
-		return cc.fill(getConnectedTank(), resource, doFill);
+		int filled = cc.fill(getConnectedTank(), resource, doFill);
+		if(doFill && filled > 0) {
+			getReactorController().wake();
+		}
+		return filled;
 	}
 
 	@Override
@@ -162,7 +166,7 @@ public class TileEntityReactorCoolantPort extends TileEntityReactorPart implemen
 		return cc.getTankInfo(getConnectedTank());
 	}
 	
-	// ITickableMultiblockPart
+	// IScheduledMultiblockPart
 	
 	@Override
 	public void onMultiblockServerTick() {
@@ -180,6 +184,12 @@ public class TileEntityReactorCoolantPort extends TileEntityReactorPart implemen
 		}
 	}
 
+	// Only outlets with somewhere to pump to need updating
+	@Override
+	public int getTicksUntilNextUpdate() {
+		return (pumpDestination == null || isInlet()) ? SLEEP : 1;
+	}
+
 	// INeighborUpdatableEntity
 	@Override
 	public void onNeighborBlockChange(World world, int x, int y, int z, Block neighborBlock) {
@@ -216,6 +226,10 @@ public class TileEntityReactorCoolantPort extends TileEntityReactorPart implemen
 		TileEntity neighbor = worldObj.getTileEntity(xCoord + outDir.offsetX, yCoord + outDir.offsetY, zCoord + outDir.offsetZ);
 		if(neighbor instanceof IFluidHandler) {
 			pumpDestination = (IFluidHandler)neighbor;
+
+			if(isConnected()) {
+				getReactorController().wakeTickable(this);
+			}
 		}
 	}
 
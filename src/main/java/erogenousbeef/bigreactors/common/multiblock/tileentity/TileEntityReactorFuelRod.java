@@ -2,12 +2,10 @@ package erogenousbeef.bigreactors.common.multiblock.tileentity;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.IFluidBlock;
-import cofh.lib.util.helpers.ItemHelper;
 import erogenousbeef.bigreactors.api.IHeatEntity;
 import erogenousbeef.bigreactors.api.IRadiationModerator;
 import erogenousbeef.bigreactors.api.data.ReactorInteriorData;
@@ -35,56 +33,23 @@ public class TileEntityReactorFuelRod extends TileEntityReactorPartBase implemen
 		MultiblockReactor reactor = getReactorController();
 		float heat = reactor.getFuelHeat();
 		
-		int maxY = reactor.getMaximumCoord().y;
-		TileEntity te = worldObj.getTileEntity(xCoord, maxY, zCoord);
-		if(!(te instanceof TileEntityReactorControlRod)) {
+		TileEntityReactorControlRod controlRod = reactor.getInteriorLattice().getControlRod(xCoord, zCoord);
+		if(controlRod == null) {
 			return;
 		}
 
-		// Scale control rod insertion 0..1
-		float controlRodInsertion = Math.min(1f, Math.max(0f, ((float)((TileEntityReactorControlRod)te).getControlRodInsertion())/100f));
-		
-		// Fuel absorptiveness is determined by control rod + a heat modifier.
-		// Starts at 1 and decays towards 0.05, reaching 0.6 at 1000 and just under 0.2 at 2000. Inflection point at about 500-600.
-		// Harder radiation makes absorption more difficult.
-		float baseAbsorption = (float)(1.0 - (0.95 * Math.exp(-10 * Math.exp(-0.0022 * heat)))) * (1f - (radiation.hardness / getFuelHardnessDivisor()));
-
-		// Some fuels are better at absorbing radiation than others
-		float scaledAbsorption = Math.min(1f, baseAbsorption * getFuelAbsorptionCoefficient());
-
-		// Control rods increase total neutron absorption, but decrease the total neutrons which fertilize the fuel
-		// Absorb up to 50% better with control rods inserted.
-		float controlRodBonus = (1f - scaledAbsorption) * controlRodInsertion * 0.5f;
-		float controlRodPenalty = scaledAbsorption * controlRodInsertion * 0.5f;
-		
-		float radiationAbsorbed = (scaledAbsorption + controlRodBonus) * radiation.intensity;
-		float fertilityAbsorbed = (scaledAbsorption - controlRodPenalty) * radiation.intensity;
-		
-		float fuelModerationFactor = getFuelModerationFactor();
-		fuelModerationFactor += fuelModerationFactor * controlRodInsertion + controlRodInsertion; // Full insertion doubles the moderation factor of the fuel as well as adding its own level
-		
-		radiation.intensity = Math.max(0f, radiation.intensity - radiationAbsorbed);
-		radiation.hardness /= fuelModerationFactor;
-		
-		// Being irradiated both heats up the fuel and also enhances its fertility
-		data.fuelRfChange += radiationAbsorbed * RadiationHelper.rfPerRadiationUnit;
-		data.fuelAbsorbedRadiation += fertilityAbsorbed;
+		moderateRadiation(data, radiation, heat, controlRod.getControlRodInsertion());
 	}
 
-	// 1, upwards. How well does this fuel moderate, but not stop, radiation? Anything under 1.5 is "poor", 2-2.5 is "good", above 4 is "excellent".
-	private float getFuelModerationFactor() {
-		return 1.5f;
-	}
-
-	// 0..1. How well does this fuel absorb radiation?
-	private float getFuelAbsorptionCoefficient() {
-		// TODO: Lookup type of fuel and get data from there
-		return 0.5f;
-	}
-	
-	// Goes up from 1. How tolerant is this fuel of hard radiation?
-	private float getFuelHardnessDivisor() {
-		return 1.0f;
+	/**
+	 * Moderate radiation passing through this fuel rod, without querying the world.
+	 * @param data Radiation results to which absorbed energy is added
+	 * @param radiation The radiation passing through this fuel rod
+	 * @param heat The reactor's current fuel heat
+	 * @param insertion Insertion of the control rod atop this rod's column, 0-100
+	 */
+	public void moderateRadiation(RadiationData data, RadiationPacket radiation, float heat, short insertion) {
+		RadiationHelper.moderateByFuel(data, radiation, heat, insertion);
 	}
 	
 	// IHeatEntity
@@ -194,12 +159,12 @@ public class TileEntityReactorFuelRod extends TileEntityReactorPartBase implemen
 			interiorData = ReactorInterior.getBlockData("blockEmerald");
 		}
 		else {
-			interiorData = ReactorInterior.getBlockData(ItemHelper.oreProxy.getOreName(new ItemStack(block, 1, metadata)));
+			interiorData = ReactorInterior.getBlockData(block, metadata);
 
 			if(interiorData == null && block instanceof IFluidBlock) {
 				Fluid fluid = ((IFluidBlock)block).getFluid();
 				if(fluid != null) {
-					interiorData = ReactorInterior.getFluidData(fluid.getName());
+					interiorData = ReactorInterior.getFluidData(fluid);
 				}
 			}
 		}
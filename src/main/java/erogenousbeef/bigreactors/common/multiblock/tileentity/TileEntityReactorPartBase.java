@@ -58,6 +58,16 @@ public abstract class TileEntityReactorPartBase extends
 		}
 	}
 	
+	/**
+	 * Called by reactor blocks when a block adjacent to this part changes,
+	 * so the reactor can refresh its cached copy of the interior.
+	 */
+	public void onAdjacentBlockChange() {
+		if(isConnected()) {
+			getReactorController().onPartNeighborChanged(xCoord, yCoord, zCoord);
+		}
+	}
+	
 	// IMultiblockGuiHandler
 	/**
 	 * @return The Container object for use by the GUI. Null if there isn't any.
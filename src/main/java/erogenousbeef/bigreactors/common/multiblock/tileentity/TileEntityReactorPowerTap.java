@@ -8,9 +8,10 @@ import net.minecraftforge.common.util.ForgeDirection;
 import cofh.api.energy.IEnergyProvider;
 import cofh.api.energy.IEnergyReceiver;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.INeighborUpdatableEntity;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IPowerTap;
 import erogenousbeef.core.multiblock.MultiblockControllerBase;
 
-public class TileEntityReactorPowerTap extends TileEntityReactorPart implements IEnergyProvider, INeighborUpdatableEntity {
+public class TileEntityReactorPowerTap extends TileEntityReactorPart implements IEnergyProvider, INeighborUpdatableEntity, IPowerTap {
 	IEnergyReceiver	rfNetwork;
 	
 	public TileEntityReactorPowerTap() {
@@ -87,11 +88,26 @@ public class TileEntityReactorPowerTap extends TileEntityReactorPart implements
 		if(wasConnected != isConnected) {
 			worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
 		}
+		
+		if(isConnected()) {
+			getReactorController().onPowerTapConnectionChanged(this);
+		}
+	}
+
+	// IPowerTap
+	@Override
+	public int getPowerDemand(int units) {
+		if(rfNetwork == null) {
+			return 0;
+		}
+		
+		return rfNetwork.receiveEnergy(getOutwardsDir().getOpposite(), units, true);
 	}
 
 	/** This will be called by the Reactor Controller when this tap should be providing power.
 	 * @return Power units remaining after consumption.
 	 */
+	@Override
 	public int onProvidePower(int units) {
 		if(rfNetwork == null) {
 			return units;
@@ -140,5 +156,6 @@ public class TileEntityReactorPowerTap extends TileEntityReactorPart implements
 		return this.getReactorController().getMaxEnergyStored(from);
 	}
 	
+	@Override
 	public boolean hasEnergyConnection() { return rfNetwork != null; }
 }
@@ -18,13 +18,13 @@ import erogenousbeef.bigreactors.common.BigReactors;
 import erogenousbeef.bigreactors.common.multiblock.MultiblockReactor;
 import erogenousbeef.bigreactors.common.multiblock.block.BlockReactorPart;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.INeighborUpdatableEntity;
-import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
 import erogenousbeef.bigreactors.gui.container.ContainerBasic;
 import erogenousbeef.bigreactors.net.helpers.RedNetChange;
 import erogenousbeef.core.common.CoordTriplet;
 import erogenousbeef.core.multiblock.MultiblockControllerBase;
 
-public class TileEntityReactorRedNetPort extends TileEntityReactorPart implements ITickableMultiblockPart, INeighborUpdatableEntity {
+public class TileEntityReactorRedNetPort extends TileEntityReactorPart implements IScheduledMultiblockPart, INeighborUpdatableEntity {
 
 	public enum CircuitType {
 		DISABLED,
@@ -64,8 +64,6 @@ public class TileEntityReactorRedNetPort extends TileEntityReactorPart implement
 	
 	IRedNetNetworkContainer redNetwork;
 	IRedNetInputNode redNetInput;
-
-	int ticksSinceLastUpdate;
 	
 	public TileEntityReactorRedNetPort() {
 		super();
@@ -84,8 +82,6 @@ public class TileEntityReactorRedNetPort extends TileEntityReactorPart implement
 		
 		redNetwork = null;
 		redNetInput = null;
-
-		ticksSinceLastUpdate = 0;
 	}
 	
 	// IMultiblockPart
@@ -255,14 +251,12 @@ public class TileEntityReactorRedNetPort extends TileEntityReactorPart implement
 	
 	/**
 	 * Updates the connected RedNet network, if there is one.
-	 * Will only send one update per N ticks, where N is a configurable setting.
+	 * Scheduled once per N ticks, where N is a configurable setting.
 	 */
+	@Override
 	public void onMultiblockServerTick() {
 		if(!this.isConnected()) { return; }
 
-		ticksSinceLastUpdate++;
-		if(ticksSinceLastUpdate < BigReactors.ticksPerRedstoneUpdate) { return; }
-
 		ForgeDirection out = getOutwardsDir();
 		
 		if(redNetwork != null) {
@@ -272,8 +266,12 @@ public class TileEntityReactorRedNetPort extends TileEntityReactorPart implement
 		if(redNetInput != null) {
 			redNetInput.onInputsChanged(worldObj, xCoord+out.offsetX, yCoord+out.offsetY, zCoord+out.offsetZ, out.getOpposite(), getOutputValues());
 		}
+	}
 
-		ticksSinceLastUpdate = 0;
+	// Nothing to update without something RedNet next to us
+	@Override
+	public int getTicksUntilNextUpdate() {
+		return (redNetwork != null || redNetInput != null) ? BigReactors.ticksPerRedstoneUpdate : SLEEP;
 	}
 
 	public CircuitType getChannelCircuitType(int channel) {
@@ -433,6 +431,7 @@ public class TileEntityReactorRedNetPort extends TileEntityReactorPart implement
 	 * @param z
 	 */
 	protected void checkForConnections(IBlockAccess world, int x, int y, int z) {
+		boolean wasConnected = (redNetwork != null || redNetInput != null);
 		ForgeDirection out = getOutwardsDir();
 
 		if(out == ForgeDirection.UNKNOWN) {
@@ -454,6 +453,11 @@ public class TileEntityReactorRedNetPort extends TileEntityReactorPart implement
 				}
 			}
 		}
+
+		// We were asleep, so start updating again
+		if(!wasConnected && (redNetwork != null || redNetInput != null) && isConnected()) {
+			getReactorController().wakeTickable(this);
+		}
 	}
 
 	// Static Helpers
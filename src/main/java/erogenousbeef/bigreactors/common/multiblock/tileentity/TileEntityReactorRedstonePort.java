@@ -12,22 +12,20 @@ import erogenousbeef.bigreactors.client.gui.GuiReactorRedstonePort;
 import erogenousbeef.bigreactors.common.BigReactors;
 import erogenousbeef.bigreactors.common.multiblock.MultiblockReactor;
 import erogenousbeef.bigreactors.common.multiblock.block.BlockReactorRedstonePort;
-import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorRedNetPort.CircuitType;
 import erogenousbeef.bigreactors.gui.container.ContainerBasic;
 import erogenousbeef.core.multiblock.MultiblockControllerBase;
 import erogenousbeef.core.multiblock.MultiblockValidationException;
 
 public class TileEntityReactorRedstonePort extends TileEntityReactorPartBase
-		implements ITickableMultiblockPart {
+		implements IScheduledMultiblockPart {
 
 	protected CircuitType circuitType;
 	protected int outputLevel;
 	protected boolean activeOnPulse;
 	protected boolean greaterThan; // if false, less than
 	
-	protected int ticksSinceLastUpdate;
-	
 	// These are local-only and used for handy state calculations
 	protected boolean isExternallyPowered;
 	
@@ -36,7 +34,6 @@ public class TileEntityReactorRedstonePort extends TileEntityReactorPartBase
 		
 		circuitType = circuitType.DISABLED;
 		isExternallyPowered = false;
-		ticksSinceLastUpdate = 0;
 	}
 	
 	// Redstone methods
@@ -219,6 +216,11 @@ public class TileEntityReactorRedstonePort extends TileEntityReactorPartBase
 			// Propagate the new settings
 			this.worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
 			this.worldObj.markTileEntityChunkModified(xCoord, yCoord, zCoord, this);
+
+			// Outputs need regular updates from now on, inputs none
+			if(isConnected()) {
+				getReactorController().wakeTickable(this);
+			}
 		}
 	}
 	
@@ -285,19 +287,22 @@ public class TileEntityReactorRedstonePort extends TileEntityReactorPartBase
 	// IReactorTickable
 	/**
 	 * Updates the redstone block's status, if it's an output network, if there is one.
-	 * Will only send one update per N ticks, where N is a configurable setting.
+	 * Scheduled once per N ticks, where N is a configurable setting.
 	 */
+	@Override
 	public void onMultiblockServerTick() {
 		if(!this.isConnected()) { return; }
 
-		ticksSinceLastUpdate++;
-		if(ticksSinceLastUpdate < BigReactors.ticksPerRedstoneUpdate) { return; }
-
 		if(this.isOutput()) {
 			// Will no-op if there's no change.
 			this.sendRedstoneUpdate();
 		}
-		ticksSinceLastUpdate = 0;
+	}
+
+	// Inputs are driven by neighbor changes, so only outputs need updating
+	@Override
+	public int getTicksUntilNextUpdate() {
+		return isOutput() ? BigReactors.ticksPerRedstoneUpdate : SLEEP;
 	}
 	
 	// MultiblockTileEntityBase methods
@@ -96,7 +96,7 @@ public class TileEntityTurbineComputerPort extends
 		case getEnergyProducedLastTick:
 			return new Object[] { turbine.getEnergyGeneratedLastTick() };
 		case getEnergyStored:
-			return new Object[] { turbine.getEnergyStored() };
+			return new Object[] { turbine.getEnergyStoredRF() };
 		case getFluidAmountMax:
 			return new Object[] { MultiblockTurbine.TANK_SIZE };
 		case getFluidFlowRate:
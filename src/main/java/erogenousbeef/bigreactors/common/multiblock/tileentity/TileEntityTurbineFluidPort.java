@@ -12,10 +12,10 @@ import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidHandler;
 import erogenousbeef.bigreactors.common.multiblock.MultiblockTurbine;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.INeighborUpdatableEntity;
-import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
 import erogenousbeef.core.multiblock.MultiblockControllerBase;
 
-public class TileEntityTurbineFluidPort extends TileEntityTurbinePartStandard implements IFluidHandler, INeighborUpdatableEntity, ITickableMultiblockPart {
+public class TileEntityTurbineFluidPort extends TileEntityTurbinePartStandard implements IFluidHandler, INeighborUpdatableEntity, IScheduledMultiblockPart {
 
 	public enum FluidFlow {
 		In,
@@ -35,6 +35,8 @@ public class TileEntityTurbineFluidPort extends TileEntityTurbinePartStandard im
 		flowSetting = newDirection;
 
 		if(!worldObj.isRemote) {
+			checkForAdjacentTank();
+
 			if(markDirty) {
 				this.markDirty();
 			}
@@ -152,7 +154,7 @@ public class TileEntityTurbineFluidPort extends TileEntityTurbinePartStandard im
 	
 	public FluidFlow getFlowDirection() { return flowSetting; }
 	
-	// ITickableMultiblockPart
+	// IScheduledMultiblockPart
 	
 	@Override
 	public void onMultiblockServerTick() {
@@ -169,6 +171,12 @@ public class TileEntityTurbineFluidPort extends TileEntityTurbinePartStandard im
 			turbine.drain(MultiblockTurbine.TANK_OUTPUT, fluidToDrain, true);
 		}
 	}
+
+	// Only outlets with somewhere to pump to need updating
+	@Override
+	public int getTicksUntilNextUpdate() {
+		return (pumpDestination == null || flowSetting != FluidFlow.Out) ? SLEEP : 1;
+	}
 	
 	// INeighborUpdatableEntity
 	@Override
@@ -201,6 +209,10 @@ public class TileEntityTurbineFluidPort extends TileEntityTurbinePartStandard im
 		TileEntity neighbor = worldObj.getTileEntity(xCoord + outDir.offsetX, yCoord + outDir.offsetY, zCoord + outDir.offsetZ);
 		if(neighbor instanceof IFluidHandler) {
 			pumpDestination = (IFluidHandler)neighbor;
+
+			if(isConnected()) {
+				getTurbine().wakeTickable(this);
+			}
 		}
 	}
 }
@@ -74,6 +74,16 @@ public abstract class TileEntityTurbinePartBase extends RectangularMultiblockTil
 	public MultiblockTurbine getTurbine() {
 		return (MultiblockTurbine)getMultiblockController();
 	}
+
+	/**
+	 * Called by turbine blocks when a block adjacent to this part changes,
+	 * so the turbine can restart any check of its interior in flight.
+	 */
+	public void onAdjacentBlockChange() {
+		if(isConnected()) {
+			getTurbine().onPartNeighborChanged(xCoord, yCoord, zCoord);
+		}
+	}
 	
 	// IActivateable
 	// IActivateable
@@ -8,9 +8,10 @@ import net.minecraftforge.common.util.ForgeDirection;
 import cofh.api.energy.IEnergyProvider;
 import cofh.api.energy.IEnergyReceiver;
 import erogenousbeef.bigreactors.common.multiblock.interfaces.INeighborUpdatableEntity;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IPowerTap;
 import erogenousbeef.core.multiblock.MultiblockControllerBase;
 
-public class TileEntityTurbinePowerTap extends TileEntityTurbinePartStandard implements IEnergyProvider, INeighborUpdatableEntity {
+public class TileEntityTurbinePowerTap extends TileEntityTurbinePartStandard implements IEnergyProvider, INeighborUpdatableEntity, IPowerTap {
 
 	IEnergyReceiver	rfNetwork;
 	
@@ -37,6 +38,11 @@ public class TileEntityTurbinePowerTap extends TileEntityTurbinePartStandard imp
 	public boolean isAttachedToPowerNetwork() {
 		return rfNetwork != null;
 	}
+
+	@Override
+	public boolean hasEnergyConnection() {
+		return isAttachedToPowerNetwork();
+	}
 	
 	// IMultiblockPart
 	@Override
@@ -93,11 +99,26 @@ public class TileEntityTurbinePowerTap extends TileEntityTurbinePartStandard imp
 			// Re-render on clients
             worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
 		}
+		
+		if(isConnected()) {
+			getTurbine().onPowerTapConnectionChanged(this);
+		}
+	}
+
+	// IPowerTap
+	@Override
+	public int getPowerDemand(int units) {
+		if(rfNetwork == null) {
+			return 0;
+		}
+		
+		return rfNetwork.receiveEnergy(getOutwardsDir().getOpposite(), units, true);
 	}
 
 	/** This will be called by the Reactor Controller when this tap should be providing power.
 	 * @return Power units remaining after consumption.
 	 */
+	@Override
 	public int onProvidePower(int units) {
 		if(rfNetwork == null) {
 			return units;
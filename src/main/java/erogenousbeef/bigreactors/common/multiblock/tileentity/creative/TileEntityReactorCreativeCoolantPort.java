@@ -4,10 +4,10 @@ import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
 import erogenousbeef.bigreactors.common.multiblock.MultiblockReactor;
 import erogenousbeef.bigreactors.common.multiblock.helpers.CoolantContainer;
-import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
 import erogenousbeef.bigreactors.common.multiblock.tileentity.TileEntityReactorCoolantPort;
 
-public class TileEntityReactorCreativeCoolantPort extends TileEntityReactorCoolantPort implements ITickableMultiblockPart {
+public class TileEntityReactorCreativeCoolantPort extends TileEntityReactorCoolantPort implements IScheduledMultiblockPart {
 
 	public TileEntityReactorCreativeCoolantPort() {
 		super();
@@ -31,6 +31,12 @@ public class TileEntityReactorCreativeCoolantPort extends TileEntityReactorCoola
 		}
 	}
 
+	// Always topping up or venting
+	@Override
+	public int getTicksUntilNextUpdate() {
+		return 1;
+	}
+
 	public void forceAddWater() {
 		if(!isConnected()) { return; }
 		
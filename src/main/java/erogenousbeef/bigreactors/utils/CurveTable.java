@@ -0,0 +1,97 @@
+package erogenousbeef.bigreactors.utils;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+
+/**
+ * A fixed-resolution, linearly-interpolated lookup table for an expensive curve
+ * of one variable, such as heat-response or rotor efficiency curves.
+ *
+ * Subclasses implement evaluate() with the closed-form curve. The table is filled
+ * in from it the first time it's used, with BigReactors.curveTableSamples points.
+ * Inputs outside the table's range are evaluated exactly, unless the table is periodic,
+ * in which case they wrap around into it.
+ *
+ * Within its range, the table is within h^2 / 8 * max|f''| of the exact curve, where
+ * h = (max - min) / (curveTableSamples - 1) is the spacing between samples and f'' is the curve's
+ * second derivative, plus up to about 1e-6 of float rounding for curves between 0 and 1.
+ * With the default 4096 samples, every curve in the mod is within 2e-6 of its exact value.
+ */
+public abstract class CurveTable {
+
+	private final float min;
+	private final float max;
+	private final boolean periodic;
+
+	private volatile float[] samples;
+	private float samplesPerUnit;
+
+	/**
+	 * @param min Smallest input covered by the table
+	 * @param max Largest input covered by the table
+	 * @param periodic If true, the curve repeats every (max - min) and inputs are wrapped into the table
+	 */
+	public CurveTable(float min, float max, boolean periodic) {
+		this.min = min;
+		this.max = max;
+		this.periodic = periodic;
+		this.samples = null;
+	}
+
+	public float getMin() { return min; }
+	public float getMax() { return max; }
+
+	/**
+	 * @return The exact value of the curve at x
+	 */
+	protected abstract double evaluate(double x);
+
+	/**
+	 * @return The interpolated value of the curve at x
+	 */
+	public float get(float x) {
+		float[] table = samples;
+		if(table == null) { table = build(); }
+		if(table.length < 2) { return (float)evaluate(x); }
+
+		float offset;
+		if(periodic) {
+			if(Float.isNaN(x) || Float.isInfinite(x)) { return (float)evaluate(x); }
+
+			float range = max - min;
+			offset = (x - min) % range;
+			if(offset < 0f) { offset += range; }
+		}
+		else {
+			if(!(x >= min && x <= max)) { return (float)evaluate(x); }
+			offset = x - min;
+		}
+
+		float position = offset * samplesPerUnit;
+		int idx = (int)position;
+		if(idx >= table.length - 1) { return table[table.length - 1]; }
+
+		float fraction = position - idx;
+		return table[idx] + (table[idx + 1] - table[idx]) * fraction;
+	}
+
+	private synchronized float[] build() {
+		if(samples != null) { return samples; }
+
+		int numSamples = BigReactors.curveTableSamples;
+		if(numSamples < 2) {
+			// Tables disabled; always evaluate exactly
+			samples = new float[0];
+			return samples;
+		}
+
+		float[] table = new float[numSamples];
+		double step = (double)(max - min) / (double)(numSamples - 1);
+		for(int i = 0; i < numSamples; i++) {
+			table[i] = (float)evaluate(min + step * i);
+		}
+
+		samplesPerUnit = (float)(numSamples - 1) / (max - min);
+		samples = table;
+		return table;
+	}
+}
@@ -0,0 +1,225 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IPowerTap;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.IScheduledMultiblockPart;
+import erogenousbeef.bigreactors.common.multiblock.interfaces.ITickableMultiblockPart;
+
+/**
+ * Once warmed up, a reactor's tick mustn't allocate. Counts the bytes this thread
+ * allocates while ticking a reactor built from a lattice.
+ *
+ * Each tick does what MultiblockReactor.updateServer() does, apart from the parts which need
+ * a world: the tick budget, the physics step, sharing power out between power taps, and
+ * updating tickable parts through a TickScheduler. The budget is kept over-spent, so that
+ * every kind of work is put off now and then, and physics steps cover several ticks.
+ */
+public class ReactorModelAllocationTest {
+
+	private static final int WARMUP_TICKS = 20000;
+	private static final int MEASURED_TICKS = 2000;
+
+	private ThreadMXBean threads;
+	private boolean radiateAllFuelRods;
+	private boolean useRadiationCache;
+	private int tickBudgetMicros;
+
+	@Before
+	public void setUp() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+		threads = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+
+		radiateAllFuelRods = BigReactors.reactorRadiateAllFuelRods;
+		useRadiationCache = BigReactors.reactorUseRadiationCache;
+		tickBudgetMicros = BigReactors.multiblockTickBudgetMicros;
+	}
+
+	@After
+	public void tearDown() {
+		BigReactors.reactorRadiateAllFuelRods = radiateAllFuelRods;
+		BigReactors.reactorUseRadiationCache = useRadiationCache;
+		BigReactors.multiblockTickBudgetMicros = tickBudgetMicros;
+		MultiblockTickBudget.startServerTick();
+		MultiblockTickBudget.resetMetrics();
+	}
+
+	@Test
+	public void radiatingOneFuelRodPerTickDoesNotAllocate() {
+		BigReactors.reactorRadiateAllFuelRods = false;
+		assertEquals(0L, measureTickAllocation());
+	}
+
+	@Test
+	public void radiatingAllFuelRodsDoesNotAllocate() {
+		BigReactors.reactorRadiateAllFuelRods = true;
+		BigReactors.reactorUseRadiationCache = false;
+		assertEquals(0L, measureTickAllocation());
+	}
+
+	@Test
+	public void radiationCacheDoesNotAllocate() {
+		BigReactors.reactorRadiateAllFuelRods = true;
+		BigReactors.reactorUseRadiationCache = true;
+		assertEquals(0L, measureTickAllocation());
+	}
+
+	/**
+	 * @return Bytes allocated by MEASURED_TICKS ticks of a warmed-up reactor
+	 */
+	private long measureTickAllocation() {
+		WorldFreeReactor reactor = new WorldFreeReactor(TestReactors.createCheckerboard(7, 7, 7));
+		for(int tick = 0; tick < WARMUP_TICKS; tick++) {
+			reactor.tick();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		threads.getThreadAllocatedBytes(threadId); // Whatever the first call allocates isn't counted
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for(int tick = 0; tick < MEASURED_TICKS; tick++) {
+			reactor.tick();
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+		// Make sure everything being measured actually ran
+		assertTrue(reactor.steps > 0 && reactor.energySent > 0);
+		assertTrue(reactor.parts[0].updates > 0 && reactor.sleeper.updates > 0);
+		return allocated;
+	}
+
+	/**
+	 * The world-free parts of MultiblockReactor.updateServer(), with a few tickable parts and power taps.
+	 */
+	private static class WorldFreeReactor {
+		final ReactorModel model;
+		final TickScheduler tickScheduler = new TickScheduler();
+		final PowerDistributor powerDistributor = new PowerDistributor();
+		final TestPart[] parts = new TestPart[8];
+		final TestPart sleeper = new TestPart(IScheduledMultiblockPart.SLEEP);
+
+		int ticks;
+		int ticksSinceSimulation;
+		int ticksTickablesDeferred;
+		int steps;
+		long energySent;
+
+		WorldFreeReactor(ReactorModel model) {
+			this.model = model;
+
+			// Parts which want updating every tick, every few ticks, and only when woken
+			tickScheduler.add(new ITickableMultiblockPart() {
+				@Override
+				public void onMultiblockServerTick() {}
+			});
+			for(int i = 0; i < parts.length; i++) {
+				parts[i] = new TestPart(1 + i);
+				tickScheduler.add(parts[i]);
+			}
+			tickScheduler.add(sleeper);
+
+			// A tap which takes everything, one which takes a little, and one which wants nothing
+			powerDistributor.setConnected(new TestPowerTap(Integer.MAX_VALUE), true);
+			powerDistributor.setConnected(new TestPowerTap(37), true);
+			powerDistributor.setConnected(new TestPowerTap(0), true);
+
+			// Always over budget, so work gets put off
+			BigReactors.multiblockTickBudgetMicros = 1;
+		}
+
+		void tick() {
+			MultiblockTickBudget.startServerTick();
+			long budgetStart = MultiblockTickBudget.begin();
+			ticks++;
+
+			ticksSinceSimulation++;
+			int ticksOverdue = ticksSinceSimulation - 1;
+			if(!MultiblockTickBudget.shouldDefer(MultiblockTickBudget.PHYSICS, ticksOverdue)) {
+				model.step(true, ticksSinceSimulation);
+				ticksSinceSimulation = 0;
+				steps++;
+			}
+
+			EnergyBuffer energyBuffer = model.getEnergyBuffer();
+			int energyAvailable = energyBuffer.getEnergyStoredInt();
+			if(energyAvailable > 0) {
+				int energyUsed = powerDistributor.distribute(energyAvailable);
+				if(energyUsed > 0) {
+					energyBuffer.removeEnergy(energyUsed);
+					energySent += energyUsed;
+				}
+			}
+
+			if(ticks % 7 == 0) {
+				tickScheduler.wake(sleeper);
+			}
+			if(MultiblockTickBudget.shouldDefer(MultiblockTickBudget.TICKABLES, ticksTickablesDeferred)) {
+				ticksTickablesDeferred++;
+			}
+			else {
+				ticksTickablesDeferred = 0;
+				tickScheduler.tick();
+			}
+
+			MultiblockTickBudget.end(budgetStart);
+		}
+	}
+
+	/**
+	 * Updates every few ticks, varying how long it waits each time, or sleeps until woken.
+	 */
+	private static class TestPart implements IScheduledMultiblockPart {
+		final int delay;
+		int updates;
+
+		TestPart(int delay) {
+			this.delay = delay;
+		}
+
+		@Override
+		public void onMultiblockServerTick() {
+			updates++;
+		}
+
+		@Override
+		public int getTicksUntilNextUpdate() {
+			return delay == SLEEP ? SLEEP : delay + updates % 3;
+		}
+	}
+
+	/**
+	 * Accepts up to a fixed amount of RF per tick.
+	 */
+	private static class TestPowerTap implements IPowerTap {
+		final int maxAccepted;
+
+		TestPowerTap(int maxAccepted) {
+			this.maxAccepted = maxAccepted;
+		}
+
+		@Override
+		public boolean hasEnergyConnection() { return true; }
+
+		@Override
+		public int getPowerDemand(int units) {
+			return Math.min(units, maxAccepted);
+		}
+
+		@Override
+		public int onProvidePower(int units) {
+			return units - Math.min(units, maxAccepted);
+		}
+	}
+}
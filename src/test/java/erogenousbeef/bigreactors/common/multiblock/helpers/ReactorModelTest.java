@@ -0,0 +1,95 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+
+public class ReactorModelTest {
+
+	private static final int SETTLE_TICKS = 20000;
+	private static final int AVERAGE_TICKS = 4000;
+
+	private boolean radiateAllFuelRods;
+
+	@Before
+	public void setUp() {
+		// Radiate every rod each step, so that output doesn't depend on which rod a step lands on
+		radiateAllFuelRods = BigReactors.reactorRadiateAllFuelRods;
+		BigReactors.reactorRadiateAllFuelRods = true;
+	}
+
+	@After
+	public void tearDown() {
+		BigReactors.reactorRadiateAllFuelRods = radiateAllFuelRods;
+	}
+
+	/**
+	 * Simulating 20 ticks at once must settle where simulating every tick does.
+	 */
+	@Test
+	public void simulationIntervalKeepsSteadyState() {
+		assertSameSteadyState(false);
+	}
+
+	/**
+	 * Likewise with active cooling, where a step's heat must not be held back by the size of the coolant tanks.
+	 */
+	@Test
+	public void simulationIntervalKeepsSteadyStateWhenActivelyCooled() {
+		assertSameSteadyState(true);
+	}
+
+	private static void assertSameSteadyState(boolean activelyCooled) {
+		float[] everyTick = runToSteadyState(1, activelyCooled);
+		float[] everySecond = runToSteadyState(20, activelyCooled);
+
+		assertTrue("Reactor never heated up", everyTick[0] > 100f);
+		assertTrue("Reactor never generated energy", everyTick[2] > 1f);
+
+		assertEquals("Reactor heat", everyTick[0], everySecond[0], everyTick[0] * 0.01f);
+		assertEquals("Fuel heat", everyTick[1], everySecond[1], everyTick[1] * 0.01f);
+		assertEquals("Energy per tick", everyTick[2], everySecond[2], everyTick[2] * 0.01f);
+	}
+
+	/**
+	 * Run a reactor long enough to settle, holding its fuel steady, ticking as MultiblockReactor does.
+	 * @return Reactor heat, fuel heat and energy generated per tick (or vapor made, when actively cooled),
+	 * averaged over the last AVERAGE_TICKS ticks
+	 */
+	private static float[] runToSteadyState(int dt, boolean activelyCooled) {
+		ReactorModel model = activelyCooled ? TestReactors.createCooledCheckerboard(5, 5, 5) : TestReactors.createCheckerboard(5, 5, 5);
+
+		double reactorHeat = 0.0, fuelHeat = 0.0, energy = 0.0;
+		double lastReactorHeat = 0.0;
+		for(int tick = 0; tick < SETTLE_TICKS + AVERAGE_TICKS; tick++) {
+			if(tick % dt == 0) {
+				TestReactors.refuel(model);
+				model.step(true, dt);
+			}
+			else {
+				model.tickCoolant();
+			}
+			if(activelyCooled) {
+				TestReactors.pumpCoolant(model);
+			}
+
+			if(tick == SETTLE_TICKS - AVERAGE_TICKS) {
+				lastReactorHeat = model.getReactorHeat();
+			}
+			if(tick >= SETTLE_TICKS) {
+				reactorHeat += model.getReactorHeat();
+				fuelHeat += model.getFuelHeat();
+				energy += model.getEnergyGeneratedLastTick();
+			}
+		}
+
+		float[] averages = new float[] { (float)(reactorHeat / AVERAGE_TICKS), (float)(fuelHeat / AVERAGE_TICKS), (float)(energy / AVERAGE_TICKS) };
+		assertEquals("Reactor hasn't settled with dt " + dt, lastReactorHeat, averages[0], averages[0] * 0.01f);
+		return averages;
+	}
+}
@@ -0,0 +1,104 @@
+package erogenousbeef.bigreactors.common.multiblock.helpers;
+
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import erogenousbeef.bigreactors.api.IHeatEntity;
+import erogenousbeef.bigreactors.api.data.ReactorInteriorData;
+import erogenousbeef.bigreactors.api.registry.ReactorConversions;
+import erogenousbeef.bigreactors.common.BigReactors;
+import erogenousbeef.bigreactors.common.data.ReactantStack;
+import erogenousbeef.bigreactors.common.data.StandardReactants;
+import erogenousbeef.bigreactors.common.multiblock.MultiblockReactor;
+
+/**
+ * Builds reactor models for tests, without a world: a checkerboard of fuel columns,
+ * topped by fully-withdrawn control rods, and graphite columns. They can be passively
+ * or actively cooled.
+ */
+public class TestReactors {
+
+	// As registered for blockGraphite in BigReactors
+	private static final ReactorInteriorData graphiteData = new ReactorInteriorData(0.10f, 0.50f, 2.00f, IHeatEntity.conductivityGold);
+
+	private static boolean reactantsRegistered = false;
+
+	private static synchronized void registerReactants() {
+		if(reactantsRegistered) { return; }
+		StandardReactants.register();
+		ReactorConversions.register(StandardReactants.yellorium, StandardReactants.cyanite);
+
+		// As BigReactors does, if no other mod has
+		if(FluidRegistry.getFluid("steam") == null) {
+			FluidRegistry.registerFluid(new Fluid("steam"));
+		}
+		BigReactors.fluidSteam = FluidRegistry.getFluid("steam");
+		reactantsRegistered = true;
+	}
+
+	/**
+	 * @return A passively-cooled reactor with an interior of the given size, half full of yellorium
+	 */
+	public static ReactorModel createCheckerboard(int xSize, int ySize, int zSize) {
+		registerReactants();
+
+		ReactorModel model = new ReactorModel(10000000L);
+		ReactorInteriorLattice lattice = model.getInteriorLattice();
+		lattice.allocate(1, 1, 1, xSize, ySize, zSize);
+		for(int x = 1; x <= xSize; x++) {
+			for(int z = 1; z <= zSize; z++) {
+				boolean fuel = ((x + z) & 1) == 0;
+				if(fuel) {
+					lattice.setControlRod(x, z, 0);
+				}
+
+				for(int y = 1; y <= ySize; y++) {
+					if(fuel) {
+						lattice.setFuelRod(x, y, z);
+					}
+					else {
+						lattice.setModerator(x, y, z, graphiteData);
+					}
+				}
+			}
+		}
+		lattice.finishBuilding();
+
+		model.setInteriorSize(xSize, ySize, zSize);
+		model.setFuelToReactorHeatTransferCoefficient(model.calculateFuelToReactorHeatTransferCoefficient());
+		model.getFuelContainer().setCapacity(lattice.getFuelRodCount() * MultiblockReactor.FuelCapacityPerFuelRod);
+		refuel(model);
+		return model;
+	}
+
+	/**
+	 * @return An actively-cooled reactor with an interior of the given size, half full of yellorium
+	 * and with its coolant tanks as big as MultiblockReactor makes them
+	 */
+	public static ReactorModel createCooledCheckerboard(int xSize, int ySize, int zSize) {
+		ReactorModel model = createCheckerboard(xSize, ySize, zSize);
+		int outerVolume = (xSize + 2) * (ySize + 2) * (zSize + 2) - model.getReactorVolume();
+		model.getCoolantContainer().setCapacity(Math.max(0, Math.min(50000, outerVolume * 100)));
+		pumpCoolant(model);
+		return model;
+	}
+
+	/**
+	 * Do what a reactor's coolant ports do each tick, with plenty of water to pump in and
+	 * somewhere to pump all of the steam out to: fill the coolant tank, and empty the vapor tank.
+	 */
+	public static void pumpCoolant(ReactorModel model) {
+		CoolantContainer coolantContainer = model.getCoolantContainer();
+		coolantContainer.addCoolant(new FluidStack(FluidRegistry.WATER, coolantContainer.getCapacity()));
+		coolantContainer.drain(CoolantContainer.HOT, coolantContainer.getCapacity(), true);
+	}
+
+	/**
+	 * Throw out the reactor's waste and fill it half full of yellorium again.
+	 */
+	public static void refuel(ReactorModel model) {
+		FuelContainer fuelContainer = model.getFuelContainer();
+		fuelContainer.emptyWaste();
+		fuelContainer.setFuel(new ReactantStack(StandardReactants.yellorium, fuelContainer.getCapacity() / 2));
+	}
+}
@@ -0,0 +1,82 @@
+package erogenousbeef.bigreactors.utils;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+import erogenousbeef.bigreactors.common.BigReactors;
+import erogenousbeef.bigreactors.common.multiblock.MultiblockTurbine;
+import erogenousbeef.bigreactors.common.multiblock.helpers.RadiationHelper;
+
+/**
+ * Samples the mod's curve tables densely and checks they stay within the error bound
+ * documented on CurveTable, for the configured number of samples.
+ */
+public class CurveTableTest {
+
+	private static final int TEST_POINTS = 1000000;
+
+	// Float rounding allowed on top of the interpolation error, as documented on CurveTable
+	private static final double ROUNDING_ERROR = 1e-6;
+
+	@Test
+	public void heatModifierCurveIsWithinBound() {
+		assertWithinBound("heatModifierCurve", RadiationHelper.heatModifierCurve, 1);
+	}
+
+	@Test
+	public void radiationPenaltyCurveIsWithinBound() {
+		assertWithinBound("radiationPenaltyCurve", RadiationHelper.radiationPenaltyCurve, 1);
+	}
+
+	@Test
+	public void fuelAbsorptionCurveIsWithinBound() {
+		assertWithinBound("fuelAbsorptionCurve", RadiationHelper.fuelAbsorptionCurve, 1);
+	}
+
+	@Test
+	public void rotorEfficiencyCurveIsWithinBound() {
+		// Periodic, so check a few periods either side of the table as well
+		assertWithinBound("rotorEfficiencyCurve", MultiblockTurbine.rotorEfficiencyCurve, 3);
+	}
+
+	/**
+	 * @param periods Number of times to sample the table's range, starting one range below it when more than 1
+	 */
+	private static void assertWithinBound(String name, CurveTable table, int periods) {
+		int samples = BigReactors.curveTableSamples;
+		assumeTrue(samples >= 2);
+
+		double min = table.getMin();
+		double max = table.getMax();
+		double range = max - min;
+		double spacing = range / (samples - 1);
+
+		// Largest second derivative, by differences at half the sample spacing
+		double step = spacing / 2.0;
+		double maxSecondDerivative = 0.0;
+		for(double x = min + step; x < max; x += step) {
+			double secondDerivative = (table.evaluate(x + step) - 2.0 * table.evaluate(x) + table.evaluate(x - step)) / (step * step);
+			maxSecondDerivative = Math.max(maxSecondDerivative, Math.abs(secondDerivative));
+		}
+		double bound = spacing * spacing / 8.0 * maxSecondDerivative + ROUNDING_ERROR;
+
+		double start = periods > 1 ? min - range : min;
+		double maxError = 0.0;
+		float worstX = (float)start;
+		for(int i = 0; i <= TEST_POINTS * periods; i++) {
+			float x = (float)(start + range * i / TEST_POINTS);
+			if(periods <= 1 && x > max) { x = (float)max; }
+
+			double error = Math.abs(table.get(x) - table.evaluate(x));
+			if(error > maxError) {
+				maxError = error;
+				worstX = x;
+			}
+		}
+
+		assertTrue(String.format("%s is off by %g at %g, more than %g with %d samples", name, maxError, worstX, bound, samples),
+				maxError <= bound);
+	}
+}